@@ -0,0 +1,363 @@
+// BulkDateConverter.java
+package com.example.demo.bulk;
+
+import com.example.demo.core.DateParseResult;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.core.IsoDateTimeWriter;
+import com.example.demo.core.MonthDayYearParser;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Converts a file of {@code MM-dd-yyyy} dates and {@code from,to} ranges, one per line, without
+ * Spring and without creating a String per line.
+ * <p>
+ * The input is memory-mapped one newline-aligned chunk at a time, so files larger than RAM are
+ * fine, and chunks are parsed in parallel straight from the mapped bytes with the same parsers
+ * the web converters use. Results are written in input order, one output line per input line:
+ * <ul>
+ *     <li>{@code epoch}: the epoch day, or {@code from,to} epoch days</li>
+ *     <li>{@code iso}: the UTC start of day, or start of {@code from} and end of {@code to}, as
+ *     {@code CustomDateConverter} and {@code CustomDateRangeConverter} return them</li>
+ * </ul>
+ * A rejected line becomes {@code !} followed by its {@link DateRejectedException.Reason} tag.
+ * <p>
+ * Usage: {@code BulkDateConverter <input> <output> [epoch|iso] [threads] [chunkMegabytes]}, with
+ * {@code chunkMegabytes} from 1 to {@value #MAX_CHUNK_MEGABYTES}.
+ */
+public final class BulkDateConverter {
+
+    /** Keeps a chunk, its newline overshoot and its output buffer well inside one array. */
+    public static final int MAX_CHUNK_MEGABYTES = 256;
+    public static final int MAX_CHUNK_SIZE = MAX_CHUNK_MEGABYTES << 20;
+
+    private final int threads;
+    private final int chunkSize;
+    private final boolean iso;
+
+    public BulkDateConverter(int threads, int chunkSize, boolean iso) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        if (chunkSize < 1 || chunkSize > MAX_CHUNK_SIZE) {
+            throw new IllegalArgumentException("chunkSize must be between 1 and " + MAX_CHUNK_SIZE + ", got " + chunkSize);
+        }
+        this.threads = threads;
+        this.chunkSize = chunkSize;
+        this.iso = iso;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Usage: BulkDateConverter <input> <output> [epoch|iso] [threads] [chunkMegabytes]");
+            System.exit(2);
+        }
+        boolean iso = args.length > 2 && args[2].toLowerCase(Locale.ROOT).equals("iso");
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        int chunkMegabytes = args.length > 4 ? Integer.parseInt(args[4]) : 8;
+        if (chunkMegabytes < 1 || chunkMegabytes > MAX_CHUNK_MEGABYTES) {
+            System.err.println("chunkMegabytes must be between 1 and " + MAX_CHUNK_MEGABYTES);
+            System.exit(2);
+        }
+
+        long start = System.nanoTime();
+        long chunkSize = (long) chunkMegabytes << 20;
+        Stats stats = new BulkDateConverter(threads, Math.toIntExact(chunkSize), iso)
+                .convert(Paths.get(args[0]), Paths.get(args[1]));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d lines (%d rejected), %.1f MB in %.2f s: %.0f lines/s, %.1f MB/s%n",
+                stats.lines, stats.rejected, stats.bytes / 1e6, seconds,
+                stats.lines / seconds, stats.bytes / 1e6 / seconds);
+    }
+
+    public Stats convert(Path input, Path output) throws IOException, InterruptedException {
+        Stats stats = new Stats();
+        Expansion expansion = new Expansion(iso);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long size = in.size();
+            stats.bytes = size;
+            // Bounded so at most this many chunks of output are held in memory
+            Deque<Future<Chunk>> pending = new ArrayDeque<>();
+            long position = 0;
+            while (position < size) {
+                long end = lineEnd(in, Math.min(position + chunkSize, size), size);
+                long chunkStart = position;
+                pending.add(workers.submit(() -> convert(in, chunkStart, end, expansion)));
+                position = end;
+                if (pending.size() >= 2 * threads) {
+                    write(pending.poll(), out, stats, expansion);
+                }
+            }
+            while (!pending.isEmpty()) {
+                write(pending.poll(), out, stats, expansion);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return stats;
+    }
+
+    // Moves a chunk end forward to just past the next newline
+    private static long lineEnd(FileChannel in, long position, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        while (position < size) {
+            probe.clear();
+            int read = in.read(probe, position);
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return position + i + 1;
+                }
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static void write(Future<Chunk> future, FileChannel out, Stats stats, Expansion expansion)
+            throws IOException, InterruptedException {
+        Chunk chunk;
+        try {
+            chunk = future.get();
+        } catch (ExecutionException e) {
+            throw new IOException("Chunk conversion failed", e.getCause());
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(chunk.output, 0, chunk.length);
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        stats.lines += chunk.lines;
+        stats.rejected += chunk.rejected;
+        expansion.add(chunk.inputLength, chunk.length);
+    }
+
+    private Chunk convert(FileChannel in, long start, long end, Expansion expansion) throws IOException {
+        MappedByteBuffer mapped = in.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        ByteSlice text = new ByteSlice(mapped);
+        int limit = mapped.limit();
+        // Sized from the output/input ratio seen so far; grown when a chunk needs more
+        Chunk chunk = new Chunk(expansion.capacity(limit), limit);
+        int lineStart = 0;
+        while (lineStart < limit) {
+            int lineEnd = lineStart;
+            while (lineEnd < limit && mapped.get(lineEnd) != '\n') {
+                lineEnd++;
+            }
+            int next = lineEnd + 1;
+            if (lineEnd > lineStart && mapped.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            convertLine(text, lineStart, lineEnd, chunk);
+            lineStart = next;
+        }
+        return chunk;
+    }
+
+    private void convertLine(ByteSlice text, int start, int end, Chunk chunk) {
+        chunk.ensureRoom(2 * IsoDateTimeWriter.MAX_LENGTH + 2);
+        chunk.lines++;
+        // Any comma makes the line a range
+        if (indexOf(text, ',', start, end) < 0) {
+            long epochDay = start == end ? MonthDayYearParser.INVALID : MonthDayYearParser.parseEpochDay(text, start, end);
+            if (epochDay == MonthDayYearParser.INVALID) {
+                int code = start == end ? DateParseResult.EMPTY : DateParseResult.INVALID_FORMAT;
+                reject(DateRejectedException.forDate(code), chunk);
+                return;
+            }
+            if (iso) {
+                chunk.length = IsoDateTimeWriter.writeStartOfDay(epochDay, chunk.output, chunk.length);
+            } else {
+                chunk.length = writeLong(epochDay, chunk.output, chunk.length);
+            }
+            chunk.output[chunk.length++] = '\n';
+            return;
+        }
+
+        int rangeEnd = DateParseResult.rangeEnd(text, start, end);
+        int comma = DateParseResult.rangeComma(text, start, rangeEnd);
+        if (comma < 0) {
+            reject(DateRejectedException.forRange(DateParseResult.INVALID_RANGE), chunk);
+            return;
+        }
+        long from = MonthDayYearParser.parseEpochDay(text, start, comma);
+        long to = MonthDayYearParser.parseEpochDay(text, comma + 1, rangeEnd);
+        if (from == MonthDayYearParser.INVALID || to == MonthDayYearParser.INVALID) {
+            reject(DateRejectedException.forRange(DateParseResult.INVALID_FORMAT), chunk);
+            return;
+        }
+        if (iso) {
+            chunk.length = IsoDateTimeWriter.writeStartOfDay(from, chunk.output, chunk.length);
+            chunk.output[chunk.length++] = ',';
+            chunk.length = IsoDateTimeWriter.writeEndOfDay(to, chunk.output, chunk.length);
+        } else {
+            chunk.length = writeLong(from, chunk.output, chunk.length);
+            chunk.output[chunk.length++] = ',';
+            chunk.length = writeLong(to, chunk.output, chunk.length);
+        }
+        chunk.output[chunk.length++] = '\n';
+    }
+
+    private static int indexOf(ByteSlice text, char c, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static void reject(DateRejectedException rejection, Chunk chunk) {
+        String tag = rejection.getReason().tag();
+        chunk.output[chunk.length++] = '!';
+        for (int i = 0; i < tag.length(); i++) {
+            chunk.output[chunk.length++] = (byte) tag.charAt(i);
+        }
+        chunk.output[chunk.length++] = '\n';
+        chunk.rejected++;
+    }
+
+    private static int writeLong(long value, byte[] buffer, int pos) {
+        if (value < 0) {
+            buffer[pos++] = '-';
+            value = -value;
+        }
+        int digits = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            digits++;
+        }
+        for (int i = pos + digits - 1; i >= pos; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return pos + digits;
+    }
+
+    public static final class Stats {
+        long lines;
+        long rejected;
+        long bytes;
+
+        public long getLines() {
+            return lines;
+        }
+
+        public long getRejected() {
+            return rejected;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    /**
+     * Output bytes per input byte over the chunks written so far, for sizing the next output
+     * buffers. Until a chunk is done it is a guess per mode: ISO lines come out about twice as
+     * long as they go in, epoch lines about half.
+     */
+    private static final class Expansion {
+        // Headroom over the measured ratio, so a chunk slightly denser than average does not grow
+        private static final double HEADROOM = 1.125;
+
+        private volatile double ratio;
+        private long input;
+        private long output;
+
+        Expansion(boolean iso) {
+            this.ratio = iso ? 2.25 : 0.625;
+        }
+
+        int capacity(int inputLength) {
+            return (int) Math.min(Integer.MAX_VALUE - 8, (long) (inputLength * ratio) + 256);
+        }
+
+        // Called from the writing thread only
+        void add(int inputLength, int outputLength) {
+            input += inputLength;
+            output += outputLength;
+            if (input > 0) {
+                ratio = HEADROOM * output / input;
+            }
+        }
+    }
+
+    private static final class Chunk {
+        final int inputLength;
+        byte[] output;
+        int length;
+        long lines;
+        long rejected;
+
+        Chunk(int capacity, int inputLength) {
+            this.output = new byte[capacity];
+            this.inputLength = inputLength;
+        }
+
+        void ensureRoom(int room) {
+            if (output.length - length < room) {
+                long grown = Math.max(2L * output.length, (long) length + room);
+                output = Arrays.copyOf(output, (int) Math.min(Integer.MAX_VALUE - 8, grown));
+            }
+        }
+    }
+}
+
+// ByteSlice.java
+package com.example.demo.bulk;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Read-only {@link CharSequence} view of ASCII bytes, so the {@code CharSequence} parsers can
+ * read a mapped file in place. Indexes are absolute positions in the buffer.
+ */
+final class ByteSlice implements CharSequence {
+
+    private final ByteBuffer bytes;
+
+    ByteSlice(ByteBuffer bytes) {
+        this.bytes = bytes;
+    }
+
+    @Override
+    public int length() {
+        return bytes.limit();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return (char) (bytes.get(index) & 0xFF);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        ByteBuffer slice = bytes.duplicate();
+        slice.position(start).limit(end);
+        return new ByteSlice(slice.slice());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder(length());
+        for (int i = 0; i < length(); i++) {
+            text.append(charAt(i));
+        }
+        return text.toString();
+    }
+}
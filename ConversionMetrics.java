@@ -0,0 +1,257 @@
+// ConversionOutcome.java
+package com.example.demo.metrics;
+
+import com.example.demo.core.DateRejectedException;
+
+public enum ConversionOutcome {
+    OK("ok"),
+    EMPTY_OPTIONAL("empty-optional"),
+    INVALID_FORMAT("invalid-format"),
+    INVALID_RANGE("invalid-range"),
+    /** Parsed, but outside the bounds, span or ordering the parameter declares */
+    CONSTRAINT_VIOLATION("constraint-violation");
+
+    private final String tag;
+
+    ConversionOutcome(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    /** The outcome a rejected value is recorded under. */
+    public static ConversionOutcome of(DateRejectedException.Reason reason) {
+        switch (reason) {
+            case MISSING_DATE:
+            case INVALID_DATE:
+                return INVALID_FORMAT;
+            case MISSING_RANGE:
+            case INVALID_RANGE:
+                return INVALID_RANGE;
+            default:
+                return CONSTRAINT_VIOLATION;
+        }
+    }
+}
+
+// ConversionPath.java
+package com.example.demo.metrics;
+
+public enum ConversionPath {
+    /** The request value was parsed. */
+    PARSED("parsed"),
+    /** The value was missing and a default (end of today) was used. */
+    DEFAULTED("defaulted"),
+    /** The value was missing or rejected and nothing was produced. */
+    NONE("none");
+
+    private final String tag;
+
+    ConversionPath(String tag) {
+        this.tag = tag;
+    }
+
+    public String tag() {
+        return tag;
+    }
+}
+
+// DateConversionMetrics.java
+package com.example.demo.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers for date conversion, tagged by endpoint, parameter, outcome and path.
+ * <p>
+ * Meters are registered once per (endpoint, parameter) and handed out as a {@link Recorder},
+ * so recording on the request path is an array lookup plus {@link Timer#record}: no tag
+ * lists, no registry lookups. Each timer's count doubles as the request counter for its outcome.
+ */
+@Component
+public class DateConversionMetrics {
+
+    public static final String METRIC_NAME = "date.conversion";
+    /**
+     * Endpoint tags for conversions done outside a known handler, by the conversion service's
+     * converters and by Bean Validation.
+     */
+    public static final String CONVERTER = "converter";
+    public static final String VALIDATOR = "validator";
+
+    private final MeterRegistry registry;
+    private final ConcurrentMap<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    public DateConversionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Resolve once and keep the result; the lookup itself concatenates a key.
+     */
+    public Recorder recorder(String endpoint, String parameter) {
+        return recorders.computeIfAbsent(endpoint + '|' + parameter, key -> new Recorder(registry, endpoint, parameter));
+    }
+
+    public static final class Recorder {
+
+        /** Records nothing, for components created without metrics, e.g. in benchmarks. */
+        public static final Recorder NONE = new Recorder();
+
+        private final Timer[][] timers;
+
+        private Recorder() {
+            timers = null;
+        }
+
+        private Recorder(MeterRegistry registry, String endpoint, String parameter) {
+            ConversionOutcome[] outcomes = ConversionOutcome.values();
+            ConversionPath[] paths = ConversionPath.values();
+            timers = new Timer[outcomes.length][paths.length];
+            for (ConversionOutcome outcome : outcomes) {
+                for (ConversionPath path : paths) {
+                    timers[outcome.ordinal()][path.ordinal()] = Timer.builder(METRIC_NAME)
+                            .tag("endpoint", endpoint)
+                            .tag("parameter", parameter)
+                            .tag("outcome", outcome.tag())
+                            .tag("path", path.tag())
+                            .register(registry);
+                }
+            }
+        }
+
+        public void record(ConversionOutcome outcome, ConversionPath path, long nanos) {
+            if (timers == null || !ConversionTiming.recording()) {
+                return;
+            }
+            timers[outcome.ordinal()][path.ordinal()].record(nanos, TimeUnit.NANOSECONDS);
+            ConversionTiming.add(nanos);
+        }
+    }
+}
+
+// ConversionTiming.java
+package com.example.demo.metrics;
+
+import java.util.UUID;
+
+/**
+ * Per-thread sum of conversion time for the request being served, reported in {@code Server-Timing},
+ * and whether that request is recorded in the timers at all.
+ */
+public final class ConversionTiming {
+
+    /**
+     * Requests carrying this header with {@link #WARMUP_TOKEN} are served normally but left out
+     * of the timers. The token is drawn per process, so only the application itself can send it.
+     */
+    public static final String WARMUP_HEADER = "X-Date-Warmup";
+    public static final String WARMUP_TOKEN = UUID.randomUUID().toString();
+
+    // [0] nanos, [1] non-zero while the request is not recorded
+    private static final ThreadLocal<long[]> NANOS = ThreadLocal.withInitial(() -> new long[2]);
+
+    private ConversionTiming() {
+    }
+
+    public static void reset() {
+        reset(true);
+    }
+
+    public static void reset(boolean recording) {
+        long[] state = NANOS.get();
+        state[0] = 0;
+        state[1] = recording ? 0 : 1;
+    }
+
+    public static void add(long nanos) {
+        NANOS.get()[0] += nanos;
+    }
+
+    public static long total() {
+        return NANOS.get()[0];
+    }
+
+    public static boolean recording() {
+        return NANOS.get()[1] == 0;
+    }
+}
+
+// ConversionTimingInterceptor.java
+package com.example.demo.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Clears the per-thread conversion time before argument resolution starts, and turns recording
+ * off for the application's own warm-up requests.
+ */
+public class ConversionTimingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String warmup = request.getHeader(ConversionTiming.WARMUP_HEADER);
+        ConversionTiming.reset(!ConversionTiming.WARMUP_TOKEN.equals(warmup));
+        return true;
+    }
+}
+
+// ServerTimingAdvice.java
+package com.example.demo.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds {@code Server-Timing: dateconv;dur=<ms>} to responses when
+ * {@code datetimeconverter.server-timing.enabled=true}.
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "datetimeconverter.server-timing.enabled", havingValue = "true")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        response.getHeaders().add("Server-Timing", serverTiming(ConversionTiming.total()));
+        return body;
+    }
+
+    // dur is in milliseconds; keep microsecond precision without going through String.format
+    static String serverTiming(long nanos) {
+        long micros = nanos / 1_000;
+        long fraction = micros % 1_000;
+        StringBuilder header = new StringBuilder(32).append("dateconv;dur=").append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            header.append('0');
+        }
+        if (fraction < 10) {
+            header.append('0');
+        }
+        return header.append(fraction).toString();
+    }
+}
@@ -1,10 +1,18 @@
+import com.example.demo.config.DateConverterRuntimeHints;
+import com.example.demo.core.EndOfDayProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.core.convert.ConversionService;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.core.convert.support.GenericConversionService;
+
+import java.time.Clock;
 
 @Configuration
+@ImportRuntimeHints(DateConverterRuntimeHints.class)
 public class ConverterConfig {
 
     private final StringToStartOfDayOffsetDateTimeConverter startOfDayConverter;
@@ -17,10 +25,39 @@ public class ConverterConfig {
     }
 
     @Bean
+    @ConditionalOnProperty(name = "datetimeconverter.conversion-service", havingValue = "default", matchIfMissing = true)
     public ConversionService conversionService() {
         DefaultConversionService conversionService = new DefaultConversionService();
         conversionService.addConverter(startOfDayConverter);
         conversionService.addConverter(endOfDayConverter);
         return conversionService;
     }
+
+    /**
+     * Only the date converters, for {@code datetimeconverter.conversion-service=minimal}. This
+     * skips registering the hundred-odd defaults at startup; property values the service can't
+     * convert fall back to the bean factory's property editors.
+     */
+    @Bean(name = "conversionService")
+    @ConditionalOnProperty(name = "datetimeconverter.conversion-service", havingValue = "minimal")
+    public ConversionService minimalConversionService() {
+        GenericConversionService conversionService = new GenericConversionService();
+        conversionService.addConverter(startOfDayConverter);
+        conversionService.addConverter(endOfDayConverter);
+        return conversionService;
+    }
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+
+    /**
+     * End of the current UTC day, for defaulting a missing {@code to}; follows the {@link Clock}
+     * bean, so a fixed clock pins it in tests.
+     */
+    @Bean
+    public EndOfDayProvider endOfDayProvider(Clock clock) {
+        return EndOfDayProvider.utc(clock);
+    }
 }
@@ -0,0 +1,47 @@
+package com.example.demo.converter;
+
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.model.DateRangeModel;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * {@link CustomDateRange#ordered()} is opt-in: a plain {@code @CustomDateRange} converts a
+ * reversed range as it always did.
+ */
+class CustomDateRangeConverterTest {
+
+    private static final String REVERSED = "01-20-2024,01-10-2024";
+
+    private final CustomDateRangeConverter converter = new CustomDateRangeConverter();
+
+    @SuppressWarnings("unused")
+    private static void handler(@CustomDateRange String plain, @CustomDateRange(ordered = true) String ordered) {
+    }
+
+    @Test
+    void convertsAReversedRangeByDefault() throws Exception {
+        DateRangeModel range = converter.convert(REVERSED, ZoneOffset.UTC, converter.constraints(annotation(0)));
+
+        assertEquals("2024-01-20T00:00Z", range.getFrom().toString());
+        assertEquals("2024-01-10T23:59:59.999999999Z", range.getTo().toString());
+    }
+
+    @Test
+    void rejectsAReversedRangeWhenOrdered() throws Exception {
+        DateRejectedException e = assertThrows(DateRejectedException.class,
+                () -> converter.convert(REVERSED, ZoneOffset.UTC, converter.constraints(annotation(1))));
+
+        assertEquals(DateRejectedException.Reason.INVERTED_RANGE, e.getReason());
+    }
+
+    private static CustomDateRange annotation(int parameter) throws NoSuchMethodException {
+        return CustomDateRangeConverterTest.class.getDeclaredMethod("handler", String.class, String.class)
+                .getParameters()[parameter].getAnnotation(CustomDateRange.class);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.demo.core;
+
+/**
+ * Limits on dates that did parse: earliest and latest allowed day, {@code from <= to}, and a
+ * maximum span in days (both ends included). Checks work on epoch days, so they cost a few
+ * comparisons and run right after parsing, before any {@code OffsetDateTime} is built.
+ * <p>
+ * A failed check names its {@link DateRejectedException.Reason}, so every kind of violation
+ * gets its own error code and its own {@code date.rejections} tag.
+ */
+public final class DateConstraints {
+
+    /** A year, leap day included: the span limit of the endpoints; longer ranges turn into scans nobody needs. */
+    public static final int MAX_RANGE_DAYS = 366;
+
+    /** Accepts every date and every range. */
+    public static final DateConstraints NONE =
+            new DateConstraints(Long.MIN_VALUE, Long.MAX_VALUE, 0, false);
+
+    private final long earliestEpochDay;
+    private final long latestEpochDay;
+    private final long maxDays;
+    private final boolean ordered;
+
+    private DateConstraints(long earliestEpochDay, long latestEpochDay, long maxDays, boolean ordered) {
+        this.earliestEpochDay = earliestEpochDay;
+        this.latestEpochDay = latestEpochDay;
+        this.maxDays = maxDays;
+        this.ordered = ordered;
+    }
+
+    /**
+     * @param earliest earliest allowed {@code MM-dd-yyyy} day, or empty for no lower bound
+     * @param latest   latest allowed {@code MM-dd-yyyy} day, or empty for no upper bound
+     * @param maxDays  longest allowed range in days, both ends included; 0 for no limit
+     * @param ordered  whether a range must not end before it starts
+     * @throws IllegalArgumentException if a bound does not parse or the values contradict each other
+     */
+    public static DateConstraints of(String earliest, String latest, int maxDays, boolean ordered) {
+        long earliestEpochDay = bound(earliest, Long.MIN_VALUE);
+        long latestEpochDay = bound(latest, Long.MAX_VALUE);
+        if (earliestEpochDay > latestEpochDay) {
+            throw new IllegalArgumentException("Earliest date " + earliest + " is after latest date " + latest);
+        }
+        if (maxDays < 0) {
+            throw new IllegalArgumentException("maxDays must not be negative: " + maxDays);
+        }
+        if (earliestEpochDay == Long.MIN_VALUE && latestEpochDay == Long.MAX_VALUE && maxDays == 0 && !ordered) {
+            return NONE;
+        }
+        return new DateConstraints(earliestEpochDay, latestEpochDay, maxDays, ordered);
+    }
+
+    private static long bound(String text, long unbounded) {
+        if (text == null || text.isEmpty()) {
+            return unbounded;
+        }
+        long epochDay = MonthDayYearParser.parseEpochDay(text);
+        if (epochDay == MonthDayYearParser.INVALID) {
+            throw new IllegalArgumentException("Invalid bound " + text + ", use MM-dd-yyyy");
+        }
+        return epochDay;
+    }
+
+    public boolean isNone() {
+        return this == NONE;
+    }
+
+    /** The rule a single day breaks, or {@code null} if it is allowed. */
+    public DateRejectedException.Reason violation(long epochDay) {
+        if (epochDay < earliestEpochDay) {
+            return DateRejectedException.Reason.TOO_EARLY;
+        }
+        if (epochDay > latestEpochDay) {
+            return DateRejectedException.Reason.TOO_LATE;
+        }
+        return null;
+    }
+
+    /** The rule a {@code from,to} range breaks, or {@code null} if it is allowed. */
+    public DateRejectedException.Reason violation(long fromEpochDay, long toEpochDay) {
+        DateRejectedException.Reason reason = violation(fromEpochDay);
+        if (reason == null) {
+            reason = violation(toEpochDay);
+        }
+        if (reason != null) {
+            return reason;
+        }
+        if (ordered && toEpochDay < fromEpochDay) {
+            return DateRejectedException.Reason.INVERTED_RANGE;
+        }
+        // Epoch days from the parsers stay well inside +-2^40, so the difference cannot overflow
+        if (maxDays > 0 && Math.abs(toEpochDay - fromEpochDay) + 1 > maxDays) {
+            return DateRejectedException.Reason.SPAN_EXCEEDED;
+        }
+        return null;
+    }
+
+    /**
+     * @throws DateRejectedException if the day is not allowed
+     */
+    public void check(long epochDay) {
+        DateRejectedException.Reason reason = violation(epochDay);
+        if (reason != null) {
+            throw DateRejectedException.of(reason);
+        }
+    }
+
+    /**
+     * @throws DateRejectedException if the range is not allowed
+     */
+    public void check(long fromEpochDay, long toEpochDay) {
+        DateRejectedException.Reason reason = violation(fromEpochDay, toEpochDay);
+        if (reason != null) {
+            throw DateRejectedException.of(reason);
+        }
+    }
+}
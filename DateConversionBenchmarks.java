@@ -0,0 +1,368 @@
+// BenchmarkInputs.java
+import com.example.demo.core.DateConstraints;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+/**
+ * Deterministic input mixes shared by the benchmarks, so runs are comparable across changes.
+ */
+public final class BenchmarkInputs {
+
+    public static final int SIZE = 1024;
+
+    private static final DateTimeFormatter FORMAT = DateTimeFormatter.ofPattern("MM-dd-uuuu");
+
+    private BenchmarkInputs() {
+    }
+
+    /**
+     * @param mix VALID, INVALID, EMPTY or MIXED (70% valid, 20% invalid, 10% empty)
+     */
+    public static String[] dates(String mix) {
+        Random random = new Random(42);
+        String[] inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            switch (mix) {
+                case "VALID":
+                    inputs[i] = validDate(random);
+                    break;
+                case "INVALID":
+                    inputs[i] = invalidDate(random);
+                    break;
+                case "EMPTY":
+                    inputs[i] = "";
+                    break;
+                default:
+                    int roll = random.nextInt(10);
+                    inputs[i] = roll < 7 ? validDate(random) : roll < 9 ? invalidDate(random) : "";
+            }
+        }
+        return inputs;
+    }
+
+    /**
+     * A {@code to} for every {@code from}: 0 to {@code MAX_RANGE_DAYS - 1} days after a valid
+     * {@code from}, so ranges have varying lengths and none is rejected for its span; any valid
+     * date after a malformed one.
+     */
+    public static String[] ends(String[] from) {
+        Random random = new Random(43);
+        String[] inputs = new String[from.length];
+        for (int i = 0; i < from.length; i++) {
+            LocalDate start;
+            try {
+                start = LocalDate.parse(from[i], FORMAT);
+            } catch (DateTimeParseException e) {
+                inputs[i] = validDate(random);
+                continue;
+            }
+            inputs[i] = FORMAT.format(start.plusDays(random.nextInt(DateConstraints.MAX_RANGE_DAYS)));
+        }
+        return inputs;
+    }
+
+    public static String[] ranges(String mix) {
+        String[] from = dates(mix);
+        String[] to = ends(from);
+        String[] inputs = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            inputs[i] = from[i].isEmpty() ? from[i] : from[i] + "," + to[i];
+        }
+        return inputs;
+    }
+
+    private static String validDate(Random random) {
+        return String.format("%02d-%02d-%04d", 1 + random.nextInt(12), 1 + random.nextInt(28), 1990 + random.nextInt(50));
+    }
+
+    private static String invalidDate(Random random) {
+        switch (random.nextInt(4)) {
+            case 0:
+                return String.format("%04d-%02d-%02d", 1990 + random.nextInt(50), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            case 1:
+                return String.format("%02d/%02d/%04d", 1 + random.nextInt(12), 1 + random.nextInt(28), 1990 + random.nextInt(50));
+            case 2:
+                return String.format("13-%02d-%04d", 1 + random.nextInt(28), 1990 + random.nextInt(50));
+            default:
+                return "' or 1=1--";
+        }
+    }
+}
+
+// CursorState.java
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-thread position in the input arrays, so contended runs don't share a counter.
+ */
+@State(Scope.Thread)
+public class CursorState {
+
+    private int next;
+
+    public int next() {
+        return next++ & (BenchmarkInputs.SIZE - 1);
+    }
+}
+
+// ConverterBenchmark.java
+import com.example.demo.converter.CustomDateConverter;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.core.EndOfDayProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConverterBenchmark {
+
+    @Param({"VALID", "INVALID", "EMPTY", "MIXED"})
+    public String mix;
+
+    private String[] dates;
+    private String[] ranges;
+    private StringToStartOfDayOffsetDateTimeConverter startOfDayConverter;
+    private StringToEndOfDayOffsetDateTimeConverter endOfDayConverter;
+    private CustomDateConverter customDateConverter;
+    private CustomDateRangeConverter rangeConverter;
+
+    @Setup
+    public void setUp() {
+        dates = BenchmarkInputs.dates(mix);
+        ranges = BenchmarkInputs.ranges(mix);
+        startOfDayConverter = new StringToStartOfDayOffsetDateTimeConverter();
+        endOfDayConverter = new StringToEndOfDayOffsetDateTimeConverter();
+        customDateConverter = new CustomDateConverter(EndOfDayProvider.utc(Clock.systemUTC()));
+        rangeConverter = new CustomDateRangeConverter();
+    }
+
+    @Benchmark
+    public Object startOfDay(CursorState cursor) {
+        try {
+            return startOfDayConverter.convert(dates[cursor.next()]);
+        } catch (RuntimeException e) {
+            // Rejected input is part of the mix; the cost of failing is what we measure
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object endOfDay(CursorState cursor) {
+        try {
+            return endOfDayConverter.convert(dates[cursor.next()]);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object customDate(CursorState cursor) {
+        try {
+            return customDateConverter.convert(dates[cursor.next()], true, true);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object range(CursorState cursor) {
+        try {
+            return rangeConverter.convert(ranges[cursor.next()]);
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+}
+
+// ValidatorBenchmark.java
+import com.example.demo.validator.CustomDateRangeValidator;
+import com.example.demo.validator.CustomDateValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    @Param({"VALID", "INVALID", "EMPTY", "MIXED"})
+    public String mix;
+
+    private String[] dates;
+    private String[] ranges;
+    private CustomDateValidator dateValidator;
+    private CustomDateRangeValidator rangeValidator;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        dates = BenchmarkInputs.dates(mix);
+        ranges = BenchmarkInputs.ranges(mix);
+        dateValidator = new CustomDateValidator();
+        dateValidator.initialize(Annotations.customDate(true, false));
+        rangeValidator = new CustomDateRangeValidator();
+    }
+
+    @Benchmark
+    public boolean customDate(CursorState cursor) {
+        return dateValidator.isValid(dates[cursor.next()], null);
+    }
+
+    @Benchmark
+    public boolean range(CursorState cursor) {
+        return rangeValidator.isValid(ranges[cursor.next()], null);
+    }
+}
+
+// ControllerBenchmark.java
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.format.support.FormattingConversionService;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * End-to-end {@code GET /date-range} through MockMvc with the converters from {@link ConverterConfig}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ControllerBenchmark {
+
+    @Param({"VALID", "MIXED"})
+    public String mix;
+
+    private String[] from;
+    private String[] to;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        from = BenchmarkInputs.dates(mix);
+        to = BenchmarkInputs.ends(from);
+        // Same converters ConverterConfig registers; MockMvc needs a FormattingConversionService
+        FormattingConversionService conversionService = new DefaultFormattingConversionService();
+        conversionService.addConverter(new StringToStartOfDayOffsetDateTimeConverter());
+        conversionService.addConverter(new StringToEndOfDayOffsetDateTimeConverter());
+        mockMvc = MockMvcBuilders.standaloneSetup(new DateRangeController(Clock.systemDefaultZone()))
+                .setConversionService(conversionService)
+                .build();
+    }
+
+    @Benchmark
+    public int getDateRange(CursorState cursor) throws Exception {
+        int i = cursor.next();
+        MvcResult result = mockMvc.perform(get("/date-range")
+                        .param("from", from[i])
+                        .param("to", to[i]))
+                .andReturn();
+        return result.getResponse().getStatus();
+    }
+}
+
+// Annotations.java
+import com.example.demo.annotation.CustomDate;
+
+/**
+ * Real {@link CustomDate} instances for constructing converters and validators outside Spring.
+ */
+final class Annotations {
+
+    private Annotations() {
+    }
+
+    static CustomDate customDate(boolean optional, boolean endOfDay) throws NoSuchMethodException {
+        String name = optional ? (endOfDay ? "optionalEndOfDay" : "optional") : "required";
+        return Annotations.class.getDeclaredMethod(name, String.class)
+                .getParameters()[0].getAnnotation(CustomDate.class);
+    }
+
+    private static void required(@CustomDate String value) {
+    }
+
+    private static void optional(@CustomDate(optional = true) String value) {
+    }
+
+    private static void optionalEndOfDay(@CustomDate(optional = true, endOfDay = true) String value) {
+    }
+}
+
+// BenchmarkRunner.java
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs every benchmark single-threaded and contended, with allocation per op from the GC profiler.
+ * Pass a regex as the first argument to narrow the selection, e.g. {@code ConverterBenchmark}.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*Benchmark.*";
+        int contended = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (int threads : new int[]{1, contended}) {
+            Options options = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.demo.config;
+
+import com.example.demo.annotation.CustomDate;
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.converter.CustomDateConverter;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.converter.CustomDateRangeListConverter;
+import com.example.demo.core.DateFormat;
+import com.example.demo.validator.CustomDateRangeListValidator;
+import com.example.demo.validator.CustomDateRangeValidator;
+import com.example.demo.validator.CustomDateValidator;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Native-image hints for what is reached reflectively rather than through the AOT-generated
+ * bean definitions: annotation attributes read off handler parameters, validators instantiated
+ * by Bean Validation, and the converter types matched by their generic signatures. Registered
+ * from {@code ConverterConfig}, so they apply whichever web stack runs.
+ */
+public class DateConverterRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection()
+                .registerType(CustomDate.class, MemberCategory.INVOKE_DECLARED_METHODS)
+                .registerType(CustomDateRange.class, MemberCategory.INVOKE_DECLARED_METHODS)
+                .registerType(DateFormat.class, MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(CustomDateValidator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS)
+                .registerType(CustomDateRangeValidator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS)
+                .registerType(CustomDateRangeListValidator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.DECLARED_FIELDS)
+                .registerType(CustomDateConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(CustomDateRangeConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS)
+                .registerType(CustomDateRangeListConverter.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS);
+        // Parameter annotations come back as JDK proxies
+        hints.proxies()
+                .registerJdkProxy(CustomDate.class)
+                .registerJdkProxy(CustomDateRange.class);
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.demo.warmup;
+
+import com.example.demo.converter.CustomDateConverter;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.converter.CustomDateRangeListConverter;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateFormat;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.core.DayBoundaryTable;
+import com.example.demo.core.IsoDateTimeWriter;
+import com.example.demo.core.ZonedDayBoundaries;
+import com.example.demo.http.DateRangeETag;
+import com.example.demo.metrics.ConversionTiming;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.convert.ConversionException;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the conversion paths with synthetic input before the application reports ready.
+ * <p>
+ * Spring Boot only moves readiness to {@code ACCEPTING_TRAFFIC} once every
+ * {@link ApplicationRunner} has returned, so this runs while the probe is still red. It
+ * <ol>
+ *     <li>fills the day-boundary tables, the ISO prefix cache and the zone caches for the days
+ *     around today,</li>
+ *     <li>calls the converters, the validation entry points and every {@link ConversionService}
+ *     bean in a loop, so their lookup caches are built and the JIT compiles the hot methods, and</li>
+ *     <li>sends requests to the application's own endpoints, which warms the argument resolver
+ *     and the message converters on the real request path.</li>
+ * </ol>
+ * The malformed part of the input only goes through the in-process calls, on converters created
+ * here without metrics. The requests carry valid, ordered dates and the
+ * {@link ConversionTiming#WARMUP_HEADER} header, which {@code ConversionTimingInterceptor} on
+ * the servlet stack and {@code ReactiveConversionTimingFilter} on WebFlux honour, so they show up
+ * in neither {@code date.conversion} nor {@code date.rejections}.
+ * <p>
+ * All of it stops at {@code datetimeconverter.warmup.time-budget-ms}. The elapsed time is logged
+ * and recorded once in the {@code date.warmup} timer. Set
+ * {@code datetimeconverter.warmup.enabled=false} to skip it, e.g. in tests.
+ */
+@Component
+@ConditionalOnProperty(name = "datetimeconverter.warmup.enabled", havingValue = "true", matchIfMissing = true)
+public class DateConverterWarmup implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(DateConverterWarmup.class);
+
+    // More than the two-slot parse memo can hold, so each call really parses
+    private static final int INPUTS = 1024;
+    private static final DateFormat[] ALL_FORMATS = DateFormat.values();
+
+    private final List<ConversionService> conversionServices;
+    private final CustomDateConverter dateConverter;
+    // Without metrics, unlike the beans, so the rejections below are not counted
+    private final CustomDateRangeConverter rangeConverter = new CustomDateRangeConverter();
+    private final CustomDateRangeListConverter rangeListConverter = new CustomDateRangeListConverter();
+    private final Clock clock;
+    private final Environment environment;
+    private final MeterRegistry registry;
+
+    @Value("${datetimeconverter.warmup.iterations:20000}")
+    private int iterations;
+
+    @Value("${datetimeconverter.warmup.requests:2000}")
+    private int requests;
+
+    @Value("${datetimeconverter.warmup.time-budget-ms:10000}")
+    private long timeBudgetMillis;
+
+    /** Days on each side of today whose cached values are built up front. */
+    @Value("${datetimeconverter.warmup.days:62}")
+    private int days;
+
+    /** Extra zones whose day boundaries are cached, for {@code @CustomDate(zone = ...)} parameters. */
+    @Value("${datetimeconverter.warmup.zones:}")
+    private String[] zones;
+
+    /** Request targets; {from}, {to} and {range} are filled in from the synthetic input. */
+    @Value("${datetimeconverter.warmup.paths:/date-range?from={from}&to={to},/date-range?from={from}}")
+    private String[] paths;
+
+    public DateConverterWarmup(List<ConversionService> conversionServices, CustomDateConverter dateConverter,
+                               Clock clock, Environment environment, MeterRegistry registry) {
+        this.conversionServices = conversionServices;
+        this.dateConverter = dateConverter;
+        this.clock = clock;
+        this.environment = environment;
+        this.registry = registry;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        long today = LocalDate.now(clock.withZone(ZoneOffset.UTC)).toEpochDay();
+
+        primeCaches(today);
+        Inputs inputs = new Inputs(today, days);
+        int converted = convert(inputs, deadline);
+        int sent = sendRequests(inputs, deadline);
+
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("date.warmup").register(registry).record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("Date converter warm-up took {} ms: {} of {} iterations, {} of {} requests{}",
+                TimeUnit.NANOSECONDS.toMillis(elapsed), converted, iterations, sent, requests,
+                System.nanoTime() > deadline ?  " (time budget of " + timeBudgetMillis + " ms used up)" : "");
+    }
+
+    private void primeCaches(long today) {
+        byte[] buffer = new byte[IsoDateTimeWriter.MAX_LENGTH];
+        for (long day = today - days; day <= today + days; day++) {
+            DayBoundaryTable.START_OF_DAY.get(day);
+            DayBoundaryTable.END_OF_DAY.get(day);
+            IsoDateTimeWriter.writeStartOfDay(day, buffer, 0);
+            IsoDateTimeWriter.writeEndOfDay(day, buffer, 0);
+            for (String zone : zones) {
+                ZonedDayBoundaries boundaries = ZonedDayBoundaries.forZone(ZonedDayBoundaries.zone(zone));
+                boundaries.startOfDay(day);
+                boundaries.endOfDay(day);
+            }
+        }
+        dateConverter.defaultValue(true, true).get();
+        for (String zone : zones) {
+            dateConverter.defaultValue(true, true, ZonedDayBoundaries.zone(zone)).get();
+        }
+    }
+
+    private int convert(Inputs inputs, long deadline) {
+        Converter<String, OffsetDateTime> startOfDay = dateConverter.converter(false);
+        Converter<String, OffsetDateTime> endOfDay = dateConverter.converter(true);
+        Converter<String, OffsetDateTime> anyFormat = dateConverter.converter(false, ALL_FORMATS);
+        ZoneId zone = zones.length == 0 ? ZoneOffset.UTC : ZonedDayBoundaries.zone(zones[0]);
+        DateConstraints constraints = DateConstraints.of("", "", DateConstraints.MAX_RANGE_DAYS, true);
+        int i = 0;
+        for (; i < iterations; i++) {
+            if ((i & 0xFF) == 0 && System.nanoTime() > deadline) {
+                break;
+            }
+            int k = i & (INPUTS - 1);
+            String date = inputs.dates[k];
+            try {
+                OffsetDateTime from = startOfDay.convert(date);
+                OffsetDateTime to = endOfDay.convert(inputs.ends[k]);
+                DateRangeETag.of(from, to);
+            } catch (DateRejectedException e) {
+                // Part of the mix is invalid on purpose
+            }
+            try {
+                anyFormat.convert(inputs.isoDates[k]);
+                DateEngine.isValidDate(date);
+                DateEngine.isValidRange(inputs.ranges[k], constraints);
+                rangeConverter.convert(inputs.ranges[k], zone, constraints);
+                rangeListConverter.convert(inputs.rangeLists[k]);
+            } catch (DateRejectedException e) {
+                // Rejected as intended
+            }
+            for (ConversionService conversionService : conversionServices) {
+                try {
+                    conversionService.convert(date, OffsetDateTime.class);
+                } catch (ConversionException e) {
+                    // The service wraps the rejection
+                }
+            }
+        }
+        return i;
+    }
+
+    private int sendRequests(Inputs inputs, long deadline) throws InterruptedException {
+        Integer port = environment.getProperty("local.server.port", Integer.class);
+        if (port == null || requests <= 0 || paths.length == 0) {
+            return 0;
+        }
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(1))
+                .build();
+        String base = "http://localhost:" + port;
+        int i = 0;
+        for (; i < requests && System.nanoTime() < deadline; i++) {
+            // Only the valid entries, and {to} never before {from}
+            int k = i & (INPUTS - 1);
+            if (Inputs.isInvalid(k)) {
+                k--;
+            }
+            String path = paths[i % paths.length]
+                    .replace("{from}", inputs.dates[k])
+                    .replace("{to}", inputs.ends[k])
+                    .replace("{range}", inputs.ranges[k]);
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + path))
+                    .header(ConversionTiming.WARMUP_HEADER, ConversionTiming.WARMUP_TOKEN)
+                    .timeout(Duration.ofSeconds(1))
+                    .build();
+            try {
+                client.send(request, HttpResponse.BodyHandlers.discarding());
+            } catch (IOException e) {
+                // The server is not answering yet; the in-process part has done the bulk of the work
+                log.debug("Warm-up request to {} failed", path, e);
+                break;
+            }
+        }
+        return i;
+    }
+
+    /**
+     * Dates, ISO dates, ranges and range lists spread over the days around today, one in eight
+     * of each malformed, none of them containing characters that need URL encoding. A valid
+     * {@code ends[k]} is {@code dates[k]} plus at most 44 days, the end of {@code ranges[k]}.
+     */
+    private static final class Inputs {
+
+        private static final String[] INVALID = {"13-45-2024", "02/30/2024", "not-a-date", "", "01-01-24"};
+
+        final String[] dates = new String[INPUTS];
+        final String[] ends = new String[INPUTS];
+        final String[] isoDates = new String[INPUTS];
+        final String[] ranges = new String[INPUTS];
+        final String[] rangeLists = new String[INPUTS];
+
+        Inputs(long today, int days) {
+            int spread = 2 * Math.max(days, 1) + 1;
+            for (int k = 0; k < INPUTS; k++) {
+                if (isInvalid(k)) {
+                    String invalid = INVALID[(k >> 3) % INVALID.length];
+                    dates[k] = invalid;
+                    ends[k] = invalid;
+                    isoDates[k] = invalid;
+                    ranges[k] = invalid + "," + invalid;
+                    rangeLists[k] = invalid;
+                    continue;
+                }
+                LocalDate from = LocalDate.ofEpochDay(today - days + (k * 31L) % spread);
+                LocalDate to = from.plusDays(k % 45);
+                dates[k] = monthDayYear(from);
+                ends[k] = monthDayYear(to);
+                isoDates[k] = from.toString();
+                ranges[k] = monthDayYear(from) + "," + monthDayYear(to);
+                rangeLists[k] = ranges[k] + ";" + monthDayYear(to) + "," + monthDayYear(to.plusDays(7));
+            }
+        }
+
+        static boolean isInvalid(int k) {
+            return (k & 7) == 7;
+        }
+
+        private static String monthDayYear(LocalDate date) {
+            return String.format("%02d-%02d-%04d", date.getMonthValue(), date.getDayOfMonth(), date.getYear());
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.demo.core;
+
+import com.example.demo.model.DateRangeList;
+import com.example.demo.model.DateRangeModel;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+
+/**
+ * The date semantics behind the web layer, as plain static methods with no framework
+ * dependency: parse to an epoch day, validate, turn a day into its start or end, and read
+ * {@code from,to} ranges. Spring converters, validators and resolvers are adapters over this
+ * class, and batch jobs or message consumers can call it directly.
+ * <p>
+ * Conversions throw the shared {@link DateRejectedException}; parsing and validation return
+ * {@link MonthDayYearParser#INVALID} or {@code false} instead. Overloads taking
+ * {@link DateConstraints} check them on the parsed epoch days before anything is built. "Today"
+ * is not handled here; it comes from {@link EndOfDayProvider}, which needs a clock.
+ * <p>
+ * The package depends on nothing outside the JDK but the range types it returns, which live in
+ * the model package.
+ */
+public final class DateEngine {
+
+    /** Returned by the {@code parseEpochDay} methods for input that is not a date. */
+    public static final long INVALID = MonthDayYearParser.INVALID;
+
+    /** The format mask of a plain {@code MM-dd-yyyy} parameter. */
+    public static final int DEFAULT_FORMAT_MASK = DateFormatDetector.DEFAULT_MASK;
+
+    private static final Function<String, OffsetDateTime> START_OF_DAY =
+            source -> DayBoundaryTable.START_OF_DAY.get(DateParseResult.ofDate(source).getEpochDay());
+    private static final Function<String, OffsetDateTime> END_OF_DAY =
+            source -> DayBoundaryTable.END_OF_DAY.get(DateParseResult.ofDate(source).getEpochDay());
+
+    private DateEngine() {
+    }
+
+    /** Epoch day of an {@code MM-dd-yyyy} date, or {@link #INVALID}. */
+    public static long parseEpochDay(CharSequence text) {
+        return DateFormatDetector.parseEpochDay(text, DateFormatDetector.DEFAULT_MASK);
+    }
+
+    /**
+     * Epoch day of a date in any of the formats in {@code formatMask} (see {@link DateFormat#mask}),
+     * or {@link #INVALID}.
+     */
+    public static long parseEpochDay(CharSequence text, int formatMask) {
+        return DateFormatDetector.parseEpochDay(text, formatMask);
+    }
+
+    /**
+     * Same as {@link #parseEpochDay(CharSequence, int)}, answered from a per-thread memo of the
+     * last two dates, so a {@code to} checked against its {@code from} does not parse it again.
+     */
+    public static long memoizedEpochDay(String text, int formatMask) {
+        DateParseResult date = DateParseResult.ofDate(text, formatMask);
+        return date.isValid() ? date.getEpochDay() : INVALID;
+    }
+
+    public static boolean isValidDate(String text) {
+        return DateParseResult.ofDate(text).isValid();
+    }
+
+    public static boolean isValidDate(String text, int formatMask) {
+        return DateParseResult.ofDate(text, formatMask).isValid();
+    }
+
+    /** Whether {@code text} parses and its day passes {@code constraints}. */
+    public static boolean isValidDate(String text, int formatMask, DateConstraints constraints) {
+        DateParseResult date = DateParseResult.ofDate(text, formatMask);
+        return date.isValid() && constraints.violation(date.getEpochDay()) == null;
+    }
+
+    public static boolean isValidRange(String text) {
+        return DateParseResult.ofRange(text).isValid();
+    }
+
+    /** Whether {@code text} is a {@code from,to} range that passes {@code constraints}. */
+    public static boolean isValidRange(String text, DateConstraints constraints) {
+        DateParseResult range = DateParseResult.ofRange(text);
+        return range.isValid() && constraints.violation(range.getFromEpochDay(), range.getToEpochDay()) == null;
+    }
+
+    public static OffsetDateTime startOfDay(long epochDay, ZoneId zone) {
+        return ZonedDayBoundaries.forZone(zone).startOfDay(epochDay);
+    }
+
+    public static OffsetDateTime endOfDay(long epochDay, ZoneId zone) {
+        return ZonedDayBoundaries.forZone(zone).endOfDay(epochDay);
+    }
+
+    /**
+     * The start or end of a day in {@code zone}, to pick once and reuse; UTC reads the shared
+     * {@link DayBoundaryTable}s.
+     */
+    public static LongFunction<OffsetDateTime> dayBoundary(boolean endOfDay, ZoneId zone) {
+        if (isUtc(zone)) {
+            return endOfDay ? DayBoundaryTable.END_OF_DAY::get : DayBoundaryTable.START_OF_DAY::get;
+        }
+        ZonedDayBoundaries boundaries = ZonedDayBoundaries.forZone(zone);
+        return endOfDay ? boundaries::endOfDay : boundaries::startOfDay;
+    }
+
+    /**
+     * Whether {@code zone} and {@code formatMask} are plain UTC {@code MM-dd-yyyy}, which
+     * {@link #dateParser(boolean)} handles.
+     */
+    public static boolean isDefault(ZoneId zone, int formatMask) {
+        return formatMask == DEFAULT_FORMAT_MASK && isUtc(zone);
+    }
+
+    private static boolean isUtc(ZoneId zone) {
+        return zone.normalized().equals(ZoneOffset.UTC);
+    }
+
+    /**
+     * A required {@code MM-dd-yyyy} date at the UTC start or end of its day.
+     */
+    public static OffsetDateTime parseDate(String source, boolean endOfDay) {
+        return dateParser(endOfDay).apply(source);
+    }
+
+    /**
+     * Parser for non-empty {@code MM-dd-yyyy} values in UTC, to pick once and reuse.
+     */
+    public static Function<String, OffsetDateTime> dateParser(boolean endOfDay) {
+        return endOfDay ? END_OF_DAY : START_OF_DAY;
+    }
+
+    /**
+     * Parser for non-empty values in the formats of {@code formatMask}, with day boundaries
+     * taken in {@code zone}.
+     */
+    public static Function<String, OffsetDateTime> dateParser(boolean endOfDay, ZoneId zone, int formatMask) {
+        if (isDefault(zone, formatMask)) {
+            return dateParser(endOfDay);
+        }
+        LongFunction<OffsetDateTime> boundary = dayBoundary(endOfDay, zone);
+        return source -> boundary.apply(DateParseResult.ofDate(source, formatMask).getEpochDay());
+    }
+
+    /**
+     * A {@code from,to} range from the start of {@code from} to the end of {@code to} in {@code zone}.
+     */
+    public static DateRangeModel parseRange(String source, ZoneId zone) {
+        return parseRange(source, zone, DateConstraints.NONE);
+    }
+
+    /**
+     * Like {@link #parseRange(String, ZoneId)}, rejecting ranges that break {@code constraints}.
+     */
+    public static DateRangeModel parseRange(String source, ZoneId zone, DateConstraints constraints) {
+        DateParseResult range = DateParseResult.ofRange(source);
+        if (range.getError() == DateParseResult.EMPTY || range.getError() == DateParseResult.INVALID_RANGE) {
+            throw DateRejectedException.forRange(range.getError());
+        }
+        long fromEpochDay = range.getFromEpochDay();
+        long toEpochDay = range.getToEpochDay();
+        constraints.check(fromEpochDay, toEpochDay);
+
+        ZonedDayBoundaries boundaries = ZonedDayBoundaries.forZone(zone);
+        OffsetDateTime from = boundaries.startOfDay(fromEpochDay);
+        OffsetDateTime to = boundaries.endOfDay(toEpochDay);
+
+        return new DateRangeModel(from, to);
+    }
+
+    /**
+     * A range given as separate {@code from} and {@code to} dates, e.g. the members of a JSON
+     * object, checked like {@link #parseRange(String, ZoneId, DateConstraints)} without first
+     * joining them into one {@code from,to} value.
+     */
+    public static DateRangeModel parseRange(String from, String to, ZoneId zone, DateConstraints constraints) {
+        DateParseResult start = DateParseResult.ofDate(from);
+        if (!start.isValid()) {
+            throw DateRejectedException.forDate(start.getError());
+        }
+        // Read before parsing `to`, which may reuse the same memo slot
+        long fromEpochDay = start.getEpochDay();
+        DateParseResult end = DateParseResult.ofDate(to);
+        if (!end.isValid()) {
+            throw DateRejectedException.forDate(end.getError());
+        }
+        long toEpochDay = end.getEpochDay();
+        constraints.check(fromEpochDay, toEpochDay);
+
+        ZonedDayBoundaries boundaries = ZonedDayBoundaries.forZone(zone);
+        return new DateRangeModel(boundaries.startOfDay(fromEpochDay), boundaries.endOfDay(toEpochDay));
+    }
+
+    /**
+     * Reads {@code from,to;from,to;...} in a single index-based scan: no split, no substrings.
+     * Each range is read exactly like {@link #parseRange} reads a single one, trailing commas
+     * included.
+     */
+    public static DateRangeList parseRanges(String source) {
+        return parseRanges(source, DateConstraints.NONE);
+    }
+
+    /**
+     * Like {@link #parseRanges(String)}, rejecting the value if any of its ranges breaks
+     * {@code constraints}.
+     */
+    public static DateRangeList parseRanges(String source, DateConstraints constraints) {
+        if (source == null || source.indexOf(';') < 0) {
+            DateParseResult range = DateParseResult.ofRange(source);
+            if (range.getError() == DateParseResult.EMPTY || range.getError() == DateParseResult.INVALID_RANGE) {
+                throw DateRejectedException.forRange(range.getError());
+            }
+            long from = range.getFromEpochDay();
+            long to = range.getToEpochDay();
+            constraints.check(from, to);
+            return new DateRangeList(new long[]{from, to}, 1);
+        }
+
+        int length = source.length();
+        // A single trailing ';' is tolerated
+        if (source.charAt(length - 1) == ';') {
+            length--;
+        }
+        long[] epochDays = new long[8];
+        int size = 0;
+        int start = 0;
+        while (start <= length) {
+            int end = indexOf(source, ';', start, length);
+            if (end < 0) {
+                end = length;
+            }
+            int rangeEnd = DateParseResult.rangeEnd(source, start, end);
+            int comma = DateParseResult.rangeComma(source, start, rangeEnd);
+            if (comma < 0) {
+                throw DateRejectedException.of(DateRejectedException.Reason.INVALID_RANGE);
+            }
+            long from = MonthDayYearParser.parseEpochDay(source, start, comma);
+            long to = MonthDayYearParser.parseEpochDay(source, comma + 1, rangeEnd);
+            if (from == MonthDayYearParser.INVALID || to == MonthDayYearParser.INVALID) {
+                throw DateRejectedException.of(DateRejectedException.Reason.INVALID_DATE);
+            }
+            constraints.check(from, to);
+            if (2 * size == epochDays.length) {
+                epochDays = Arrays.copyOf(epochDays, epochDays.length * 2);
+            }
+            epochDays[2 * size] = from;
+            epochDays[2 * size + 1] = to;
+            size++;
+            start = end + 1;
+        }
+        return new DateRangeList(epochDays, size);
+    }
+
+    private static int indexOf(String source, char c, int from, int to) {
+        int index = source.indexOf(c, from);
+        return index >= 0 && index < to ? index : -1;
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.core;
+
+import java.time.DateTimeException;
+import java.time.OffsetDateTime;
+
+/**
+ * Parses a date in any of the {@link DateFormat}s enabled in a bit mask.
+ * <p>
+ * The format is picked from the length and separator positions in one look at the input, then
+ * exactly one specialized parser runs; nothing is tried and retried. {@code MM-dd-yyyy},
+ * {@code yyyy-MM-dd} and epoch numbers are parsed by hand. ISO offset date-times are rare
+ * enough to go through {@link OffsetDateTime#parse}.
+ */
+public final class DateFormatDetector {
+
+    public static final int DEFAULT_MASK = DateFormat.MM_DD_YYYY.mask();
+
+    // LocalDate.MIN / LocalDate.MAX as epoch days
+    private static final long MIN_EPOCH_DAY = -365_243_219_162L;
+    private static final long MAX_EPOCH_DAY = 365_241_780_471L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    // 12 digits of seconds is past the year 5000, so treat it as millis when both are allowed
+    private static final int MIN_MILLIS_DIGITS = 12;
+    private static final int MAX_EPOCH_DIGITS = 18;
+
+    private DateFormatDetector() {
+    }
+
+    public static long parseEpochDay(CharSequence text, int mask) {
+        if (text == null || text.length() == 0) {
+            return MonthDayYearParser.INVALID;
+        }
+        if (mask == DEFAULT_MASK) {
+            return MonthDayYearParser.parseEpochDay(text);
+        }
+
+        int length = text.length();
+        if (length >= 10 && text.charAt(2) == '-' && text.charAt(5) == '-') {
+            return allowed(mask, DateFormat.MM_DD_YYYY) ? MonthDayYearParser.parseEpochDay(text) : MonthDayYearParser.INVALID;
+        }
+        if (length >= 10 && text.charAt(4) == '-' && text.charAt(7) == '-') {
+            if (length == 10) {
+                return allowed(mask, DateFormat.ISO_DATE) ? parseIsoDate(text) : MonthDayYearParser.INVALID;
+            }
+            if (text.charAt(10) == 'T' && allowed(mask, DateFormat.ISO_OFFSET_DATE_TIME)) {
+                return parseIsoOffsetDateTime(text);
+            }
+            return MonthDayYearParser.INVALID;
+        }
+        return parseEpoch(text, mask);
+    }
+
+    private static boolean allowed(int mask, DateFormat format) {
+        return (mask & format.mask()) != 0;
+    }
+
+    // yyyy-MM-dd with ISO_LOCAL_DATE's strict resolution: 2023-02-30 is rejected, not clamped
+    private static long parseIsoDate(CharSequence text) {
+        int year = 0;
+        for (int i = 0; i < 4; i++) {
+            int d = text.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return MonthDayYearParser.INVALID;
+            }
+            year = year * 10 + d;
+        }
+        int month = twoDigits(text, 5);
+        int day = twoDigits(text, 8);
+        if (month < 1 || month > 12 || day < 1) {
+            return MonthDayYearParser.INVALID;
+        }
+        boolean leap = MonthDayYearParser.isLeap(year);
+        if (day > MonthDayYearParser.lengthOfMonth(month, leap)) {
+            return MonthDayYearParser.INVALID;
+        }
+        return MonthDayYearParser.toEpochDay(year, month, day, leap);
+    }
+
+    // The date as written, before applying the offset
+    private static long parseIsoOffsetDateTime(CharSequence text) {
+        try {
+            return OffsetDateTime.parse(text).toLocalDate().toEpochDay();
+        } catch (DateTimeException e) {
+            return MonthDayYearParser.INVALID;
+        }
+    }
+
+    // Seconds or millis since the epoch, optionally negative; the UTC day of that instant
+    private static long parseEpoch(CharSequence text, int mask) {
+        boolean seconds = allowed(mask, DateFormat.EPOCH_SECONDS);
+        boolean millis = allowed(mask, DateFormat.EPOCH_MILLIS);
+        if (!seconds && !millis) {
+            return MonthDayYearParser.INVALID;
+        }
+        int length = text.length();
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        int digits = length - start;
+        if (digits < 1 || digits > MAX_EPOCH_DIGITS) {
+            return MonthDayYearParser.INVALID;
+        }
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            int d = text.charAt(i) - '0';
+            if (d < 0 || d > 9) {
+                return MonthDayYearParser.INVALID;
+            }
+            value = value * 10 + d;
+        }
+        if (start == 1) {
+            value = -value;
+        }
+        boolean asMillis = millis && (!seconds || digits >= MIN_MILLIS_DIGITS);
+        long epochDay = Math.floorDiv(value, asMillis ? MILLIS_PER_DAY : SECONDS_PER_DAY);
+        return epochDay < MIN_EPOCH_DAY || epochDay > MAX_EPOCH_DAY ? MonthDayYearParser.INVALID : epochDay;
+    }
+
+    private static int twoDigits(CharSequence text, int pos) {
+        int tens = text.charAt(pos) - '0';
+        int ones = text.charAt(pos + 1) - '0';
+        if (tens < 0 || tens > 9 || ones < 0 || ones > 9) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.demo.core;
+
+/**
+ * Outcome of parsing a date or a {@code from,to} range: either the epoch day(s) or an error
+ * code. Asking for the value of an invalid result throws the shared
+ * {@link DateRejectedException} for its error code; nothing is allocated on the error path.
+ * <p>
+ * Results are memoized per thread against the identity of the source string and the accepted
+ * formats, so the validator and the converter handling the same request parameter share a
+ * single parse. Parsing is a pure function of the text, so a hit on a reused string instance is
+ * always correct. The returned instance is thread-confined and reused: read it straight away
+ * and don't keep it around.
+ */
+public final class DateParseResult {
+
+    public static final int OK = 0;
+    public static final int EMPTY = 1;
+    public static final int INVALID_FORMAT = 2;
+    public static final int INVALID_RANGE = 3;
+    // Constraint violations, reported by DateConstraints on values that did parse
+    public static final int TOO_EARLY = 4;
+    public static final int TOO_LATE = 5;
+    public static final int INVERTED_RANGE = 6;
+    public static final int SPAN_EXCEEDED = 7;
+
+    // Two date slots so that `from` and `to` of the same request don't evict each other
+    private static final ThreadLocal<DateParseResult[]> DATES =
+            ThreadLocal.withInitial(() -> new DateParseResult[]{new DateParseResult(), new DateParseResult()});
+    private static final ThreadLocal<DateParseResult> RANGES = ThreadLocal.withInitial(DateParseResult::new);
+
+    private String source;
+    private int formatMask;
+    private int error;
+    private long from;
+    private long to;
+    private int nextSlot;
+    private boolean range;
+
+    private DateParseResult() {
+    }
+
+    public static DateParseResult ofDate(String source) {
+        return ofDate(source, DateFormatDetector.DEFAULT_MASK);
+    }
+
+    /**
+     * @param formatMask the accepted {@code DateFormat}s, see {@code DateFormat.mask}
+     */
+    public static DateParseResult ofDate(String source, int formatMask) {
+        DateParseResult[] slots = DATES.get();
+        if (source != null) {
+            if (slots[0].source == source && slots[0].formatMask == formatMask) {
+                return slots[0];
+            }
+            if (slots[1].source == source && slots[1].formatMask == formatMask) {
+                return slots[1];
+            }
+        }
+        DateParseResult result = slots[slots[0].nextSlot];
+        slots[0].nextSlot ^= 1;
+        result.source = source;
+        result.formatMask = formatMask;
+        result.range = false;
+        if (source == null || source.isEmpty()) {
+            result.set(EMPTY, MonthDayYearParser.INVALID, MonthDayYearParser.INVALID);
+        } else {
+            long epochDay = DateFormatDetector.parseEpochDay(source, formatMask);
+            result.set(epochDay == MonthDayYearParser.INVALID ? INVALID_FORMAT : OK, epochDay, epochDay);
+        }
+        return result;
+    }
+
+    public static DateParseResult ofRange(String source) {
+        DateParseResult result = RANGES.get();
+        if (source != null && result.source == source) {
+            return result;
+        }
+        result.source = source;
+        result.range = true;
+        if (source == null || source.isEmpty()) {
+            result.set(EMPTY, MonthDayYearParser.INVALID, MonthDayYearParser.INVALID);
+            return result;
+        }
+
+        int end = rangeEnd(source, 0, source.length());
+        int comma = rangeComma(source, 0, end);
+        if (comma < 0) {
+            result.set(INVALID_RANGE, MonthDayYearParser.INVALID, MonthDayYearParser.INVALID);
+            return result;
+        }
+
+        long from = MonthDayYearParser.parseEpochDay(source, 0, comma);
+        long to = MonthDayYearParser.parseEpochDay(source, comma + 1, end);
+        boolean valid = from != MonthDayYearParser.INVALID && to != MonthDayYearParser.INVALID;
+        result.set(valid ? OK : INVALID_FORMAT, from, to);
+        return result;
+    }
+
+    /**
+     * End of a {@code from,to} range in {@code text[start, end)} once trailing commas are
+     * dropped, as {@code String.split(",")} did.
+     */
+    public static int rangeEnd(CharSequence text, int start, int end) {
+        while (end > start && text.charAt(end - 1) == ',') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Index of the single comma in {@code text[start, end)}, or -1 if there is none or more
+     * than one. Pass the end from {@link #rangeEnd} to read a range the way {@link #ofRange} does.
+     */
+    public static int rangeComma(CharSequence text, int start, int end) {
+        int comma = -1;
+        for (int i = start; i < end; i++) {
+            if (text.charAt(i) == ',') {
+                if (comma >= 0) {
+                    return -1;
+                }
+                comma = i;
+            }
+        }
+        return comma;
+    }
+
+    private void set(int error, long from, long to) {
+        this.error = error;
+        this.from = from;
+        this.to = to;
+    }
+
+    public boolean isValid() {
+        return error == OK;
+    }
+
+    public int getError() {
+        return error;
+    }
+
+    /**
+     * Epoch day of a single date (the {@code from} day of a range).
+     *
+     * @throws DateRejectedException if the result is not valid
+     */
+    public long getEpochDay() {
+        if (error != OK) {
+            throw range ? DateRejectedException.forRange(error) : DateRejectedException.forDate(error);
+        }
+        return from;
+    }
+
+    public long getFromEpochDay() {
+        return getEpochDay();
+    }
+
+    public long getToEpochDay() {
+        getEpochDay();
+        return to;
+    }
+}
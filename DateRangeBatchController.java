@@ -0,0 +1,195 @@
+package com.example.demo.controller;
+
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateParseResult;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.http.DateRejectionAdvice;
+import com.example.demo.model.DateRangeModel;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneOffset;
+
+/**
+ * Converts many {@code from,to} ranges in one request.
+ * <p>
+ * The body is read one line at a time and every result is written as soon as it is converted,
+ * so memory stays bounded no matter how many lines a batch has. Plain text lines use the
+ * {@link CustomDateRangeConverter} format; NDJSON lines are {@code {"from":"..","to":".."}}
+ * objects. Each input line produces one NDJSON output line, either the normalized range or
+ * {@code {"line":n,"error":"...",...}}: a rejected date or range carries the members of the
+ * {@link DateRejectionAdvice} error body, while {@code malformed-json} and {@code line-too-long}
+ * mark lines that never got as far as a date. All of them are encoded once, up front.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DateRangeBatchController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    static final int MAX_LINE_LENGTH = 256;
+    private static final int FLUSH_EVERY = 1_000;
+
+    private static final int EOF = -1;
+    private static final int OK = 0;
+    private static final int TOO_LONG = 1;
+
+    private static final SerializableString[] REJECTED =
+            new SerializableString[DateRejectedException.Reason.values().length];
+    private static final SerializableString MALFORMED_JSON =
+            new SerializedString("\"error\":\"malformed-json\",\"message\":\"Line is not a JSON object\"");
+    private static final SerializableString LINE_TOO_LONG = new SerializedString(
+            "\"error\":\"line-too-long\",\"message\":\"Line is longer than " + MAX_LINE_LENGTH + " characters\"");
+
+    static {
+        for (DateRejectedException.Reason reason : DateRejectedException.Reason.values()) {
+            REJECTED[reason.ordinal()] = new SerializedString(DateRejectionAdvice.fields(reason));
+        }
+    }
+
+    private final CustomDateRangeConverter rangeConverter;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rangeWriter;
+
+    public DateRangeBatchController(CustomDateRangeConverter rangeConverter, ObjectMapper objectMapper) {
+        this.rangeConverter = rangeConverter;
+        this.objectMapper = objectMapper;
+        // Flushing is batched in convert(), not done after every value
+        this.rangeWriter = objectMapper.writerFor(DateRangeModel.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @PostMapping(value = "/date-range/batch",
+            consumes = {NDJSON, MediaType.TEXT_PLAIN_VALUE},
+            produces = NDJSON)
+    public ResponseEntity<StreamingResponseBody> convertBatch(HttpServletRequest request) {
+        boolean json = request.getContentType() != null && request.getContentType().startsWith(NDJSON);
+        StreamingResponseBody body = out -> convert(request, json, out);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(NDJSON)).body(body);
+    }
+
+    private void convert(HttpServletRequest request, boolean json, OutputStream out) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            StringBuilder line = new StringBuilder(MAX_LINE_LENGTH);
+            long lineNumber = 0;
+            int status;
+            // Lines are terminated explicitly below, not separated by Jackson's default space
+            generator.setRootValueSeparator(null);
+            while ((status = readLine(reader, line)) != EOF) {
+                lineNumber++;
+                if (status == OK && line.length() == 0) {
+                    continue;
+                }
+                if (status == TOO_LONG) {
+                    writeError(generator, lineNumber, LINE_TOO_LONG);
+                } else if (json) {
+                    convertJsonLine(generator, lineNumber, line);
+                } else {
+                    convertLine(generator, lineNumber, line.toString());
+                }
+                generator.writeRaw('\n');
+                if (lineNumber % FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+        }
+    }
+
+    private void convertLine(JsonGenerator generator, long lineNumber, String range) throws IOException {
+        // Check with the memoized parse first so bad lines cost no exception; convert() reuses it
+        DateParseResult result = DateParseResult.ofRange(range);
+        if (!result.isValid()) {
+            writeError(generator, lineNumber, DateRejectedException.forRange(result.getError()).getReason());
+            return;
+        }
+        DateRangeModel model = rangeConverter.convert(range);
+        rangeWriter.writeValue(generator, model);
+    }
+
+    private void convertJsonLine(JsonGenerator generator, long lineNumber, CharSequence line) throws IOException {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line.toString());
+        } catch (IOException e) {
+            writeError(generator, lineNumber, MALFORMED_JSON);
+            return;
+        }
+        if (node == null || !node.isObject()) {
+            writeError(generator, lineNumber, MALFORMED_JSON);
+            return;
+        }
+        // Missing or non-string members come back as null and are rejected as missing dates
+        String from = node.path("from").textValue();
+        String to = node.path("to").textValue();
+        // Checked through the two-slot memo first, where convert() normally finds both again
+        DateParseResult fromResult = DateParseResult.ofDate(from);
+        if (!fromResult.isValid()) {
+            writeError(generator, lineNumber, DateRejectedException.forDate(fromResult.getError()).getReason());
+            return;
+        }
+        DateParseResult toResult = DateParseResult.ofDate(to);
+        if (!toResult.isValid()) {
+            writeError(generator, lineNumber, DateRejectedException.forDate(toResult.getError()).getReason());
+            return;
+        }
+        DateRangeModel model = rangeConverter.convert(from, to, ZoneOffset.UTC, DateConstraints.NONE);
+        rangeWriter.writeValue(generator, model);
+    }
+
+    private static void writeError(JsonGenerator generator, long lineNumber, DateRejectedException.Reason reason)
+            throws IOException {
+        writeError(generator, lineNumber, REJECTED[reason.ordinal()]);
+    }
+
+    private static void writeError(JsonGenerator generator, long lineNumber, SerializableString fields)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("line", lineNumber);
+        generator.writeRaw(',');
+        generator.writeRaw(fields);
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the next line into {@code line} without ever holding more than
+     * {@link #MAX_LINE_LENGTH} characters; the rest of an over-long line is skipped.
+     */
+    static int readLine(BufferedReader reader, StringBuilder line) throws IOException {
+        line.setLength(0);
+        boolean tooLong = false;
+        int c = reader.read();
+        if (c == -1) {
+            return EOF;
+        }
+        while (c != -1 && c != '\n') {
+            if (c != '\r') {
+                if (line.length() < MAX_LINE_LENGTH) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+            }
+            c = reader.read();
+        }
+        return tooLong ? TOO_LONG : OK;
+    }
+}
@@ -0,0 +1,191 @@
+// DateRangeBinaryCodec.java
+package com.example.demo.http;
+
+import com.example.demo.core.DayBoundaryTable;
+import com.example.demo.model.DateRangeList;
+import com.example.demo.model.DateRangeModel;
+
+import java.nio.ByteBuffer;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * The {@code application/x-date-range} wire format, for servers and clients alike:
+ * <ul>
+ *     <li>a range is 16 bytes, the {@code from} and {@code to} epoch days as big-endian longs</li>
+ *     <li>a list is a big-endian int count followed by that many ranges</li>
+ * </ul>
+ * Decoding gives back the UTC start of {@code from} and end of {@code to}, exactly what the
+ * converters produce for UTC ranges. Days carry no offset or time of day, so only such ranges
+ * are written; anything else, e.g. a range in Europe/Berlin, is refused rather than silently
+ * moved to UTC. See {@link #canEncode}.
+ */
+public final class DateRangeBinaryCodec {
+
+    public static final String MEDIA_TYPE = "application/x-date-range";
+    public static final int RANGE_BYTES = 16;
+    public static final int COUNT_BYTES = 4;
+
+    private DateRangeBinaryCodec() {
+    }
+
+    /**
+     * Whether {@code range} runs from a UTC start of day to a UTC end of day, so it survives a
+     * round trip through this format.
+     */
+    public static boolean canEncode(DateRangeModel range) {
+        OffsetDateTime from = range.getFrom();
+        OffsetDateTime to = range.getTo();
+        return from != null && to != null
+                && ZoneOffset.UTC.equals(from.getOffset()) && from.toLocalTime().equals(LocalTime.MIDNIGHT)
+                && ZoneOffset.UTC.equals(to.getOffset()) && to.toLocalTime().equals(LocalTime.MAX);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the range cannot be encoded losslessly, see {@link #canEncode}
+     */
+    public static int writeRange(DateRangeModel range, byte[] buffer, int pos) {
+        if (!canEncode(range)) {
+            throw new IllegalArgumentException("Only UTC whole-day ranges can be encoded, got "
+                    + range.getFrom() + " to " + range.getTo());
+        }
+        return writeRange(range.getFrom().toLocalDate().toEpochDay(), range.getTo().toLocalDate().toEpochDay(),
+                buffer, pos);
+    }
+
+    public static int writeRange(long fromEpochDay, long toEpochDay, byte[] buffer, int pos) {
+        pos = writeLong(fromEpochDay, buffer, pos);
+        return writeLong(toEpochDay, buffer, pos);
+    }
+
+    public static int writeCount(int count, byte[] buffer, int pos) {
+        buffer[pos] = (byte) (count >>> 24);
+        buffer[pos + 1] = (byte) (count >>> 16);
+        buffer[pos + 2] = (byte) (count >>> 8);
+        buffer[pos + 3] = (byte) count;
+        return pos + COUNT_BYTES;
+    }
+
+    public static DateRangeModel decodeRange(ByteBuffer buffer) {
+        if (buffer.remaining() < RANGE_BYTES) {
+            throw new IllegalArgumentException("Expected " + RANGE_BYTES + " bytes, got " + buffer.remaining());
+        }
+        long from = buffer.getLong();
+        long to = buffer.getLong();
+        return new DateRangeModel(DayBoundaryTable.START_OF_DAY.get(from), DayBoundaryTable.END_OF_DAY.get(to));
+    }
+
+    public static DateRangeModel decodeRange(byte[] body) {
+        return decodeRange(ByteBuffer.wrap(body));
+    }
+
+    /**
+     * Reads a list straight into epoch days; no {@code OffsetDateTime} is created until a range
+     * is asked for.
+     */
+    public static DateRangeList decodeRanges(ByteBuffer buffer) {
+        if (buffer.remaining() < COUNT_BYTES) {
+            throw new IllegalArgumentException("Missing range count");
+        }
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / RANGE_BYTES) {
+            throw new IllegalArgumentException("Range count " + count + " does not match " + buffer.remaining() + " bytes");
+        }
+        long[] epochDays = new long[2 * count];
+        buffer.asLongBuffer().get(epochDays);
+        buffer.position(buffer.position() + count * RANGE_BYTES);
+        return new DateRangeList(epochDays, count);
+    }
+
+    public static DateRangeList decodeRanges(byte[] body) {
+        return decodeRanges(ByteBuffer.wrap(body));
+    }
+
+    private static int writeLong(long value, byte[] buffer, int pos) {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            buffer[pos++] = (byte) (value >>> shift);
+        }
+        return pos;
+    }
+}
+
+// DateRangeBinaryHttpMessageConverter.java
+package com.example.demo.http;
+
+import com.example.demo.model.DateRangeList;
+import com.example.demo.model.DateRangeModel;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes {@link DateRangeModel} and {@link DateRangeList} as {@code application/x-date-range}
+ * (see {@link DateRangeBinaryCodec}) for callers that ask for it in {@code Accept}. A range the
+ * format cannot carry is turned away with 406 by {@link DateRangeETagAdvice} before it gets here.
+ */
+public class DateRangeBinaryHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(DateRangeBinaryCodec.MEDIA_TYPE);
+
+    private static final int BUFFER_SIZE = 4096;
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    public DateRangeBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == DateRangeModel.class || clazz == DateRangeList.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Date ranges are not read from request bodies", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(Object value, MediaType contentType) {
+        if (value instanceof DateRangeModel) {
+            return (long) DateRangeBinaryCodec.RANGE_BYTES;
+        }
+        return DateRangeBinaryCodec.COUNT_BYTES + (long) DateRangeBinaryCodec.RANGE_BYTES * ((DateRangeList) value).size();
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        OutputStream body = outputMessage.getBody();
+        if (value instanceof DateRangeModel) {
+            DateRangeModel range = (DateRangeModel) value;
+            if (!DateRangeBinaryCodec.canEncode(range)) {
+                throw new HttpMessageNotWritableException("Only UTC whole-day ranges can be written as " + MEDIA_TYPE);
+            }
+            body.write(buffer, 0, DateRangeBinaryCodec.writeRange(range, buffer, 0));
+            return;
+        }
+
+        DateRangeList ranges = (DateRangeList) value;
+        int pos = DateRangeBinaryCodec.writeCount(ranges.size(), buffer, 0);
+        for (int i = 0; i < ranges.size(); i++) {
+            if (pos > BUFFER_SIZE - DateRangeBinaryCodec.RANGE_BYTES) {
+                body.write(buffer, 0, pos);
+                pos = 0;
+            }
+            pos = DateRangeBinaryCodec.writeRange(ranges.getFromEpochDay(i), ranges.getToEpochDay(i), buffer, pos);
+        }
+        body.write(buffer, 0, pos);
+    }
+}
@@ -0,0 +1,192 @@
+package com.example.demo.cache;
+
+import java.time.Clock;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Values computed from a normalized range, cached by its UTC {@code from} and {@code to} epoch
+ * days, so every spelling of the same dates shares one entry.
+ * <p>
+ * The cache holds at most {@code maximumSize} entries in access-order LRU stripes, each behind
+ * its own lock, so lookups of different keys rarely contend; caches too small to split are a
+ * single exact LRU. Concurrent misses on the same key wait for a single computation instead of
+ * each running their own. Entries whose {@code to} is the current UTC day, which is what a
+ * defaulted "end of today" looks like, expire at the next midnight by the {@link Clock}: from
+ * then on nobody asks for them, so they are not left to age out of the LRU. A
+ * {@code maximumSize} of 0 disables caching but still coalesces.
+ */
+public final class DateRangeCache<V> {
+
+    /** Computes the value for a range; must not return {@code null}. */
+    @FunctionalInterface
+    public interface Loader<V> {
+        V load(long fromEpochDay, long toEpochDay);
+    }
+
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+    private static final int MAX_STRIPES = 16;
+    // Below this many entries per stripe the cache stays one exact LRU
+    private static final int MIN_STRIPE_SIZE = 64;
+
+    private final Clock clock;
+    private final Stripe<V>[] stripes;
+    private final int stripeMask;
+    private final ConcurrentMap<Key, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public DateRangeCache(Clock clock, int maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must not be negative");
+        }
+        this.clock = clock;
+        int count = Integer.highestOneBit(Math.max(1, Math.min(MAX_STRIPES, maximumSize / MIN_STRIPE_SIZE)));
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            // Spread the remainder so the stripes add up to maximumSize exactly
+            stripes[i] = new Stripe<>(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+        this.stripeMask = count - 1;
+    }
+
+    public V get(long fromEpochDay, long toEpochDay, Loader<V> loader) {
+        Key key = new Key(fromEpochDay, toEpochDay);
+        Stripe<V> stripe = stripes[key.hash >>> 16 & stripeMask];
+        long now = clock.millis();
+        V cached = stripe.get(key, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<V> computation = new CompletableFuture<>();
+        CompletableFuture<V> running = inFlight.putIfAbsent(key, computation);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            // Another computation may have finished between the lookup and putIfAbsent
+            V value = stripe.get(key, now);
+            if (value == null) {
+                value = loader.load(fromEpochDay, toEpochDay);
+                stripe.put(key, value, expiresAt(toEpochDay, now));
+            }
+            computation.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            computation.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, computation);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private static long expiresAt(long toEpochDay, long now) {
+        long today = Math.floorDiv(now, MILLIS_PER_DAY);
+        return toEpochDay == today ? (today + 1) * MILLIS_PER_DAY : Long.MAX_VALUE;
+    }
+
+    private static <V> V join(CompletableFuture<V> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Stripe<V> {
+        private final int capacity;
+        private final LinkedHashMap<Key, Entry<V>> entries;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LinkedHashMap<Key, Entry<V>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Key, Entry<V>> eldest) {
+                    return size() > Stripe.this.capacity;
+                }
+            };
+        }
+
+        synchronized V get(Key key, long now) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (now >= entry.expiresAt) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value;
+        }
+
+        synchronized void put(Key key, V value, long expiresAt) {
+            if (capacity > 0) {
+                entries.put(key, new Entry<>(value, expiresAt));
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    private static final class Entry<V> {
+        final V value;
+        final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Key {
+        final long fromEpochDay;
+        final long toEpochDay;
+        final int hash;
+
+        Key(long fromEpochDay, long toEpochDay) {
+            this.fromEpochDay = fromEpochDay;
+            this.toEpochDay = toEpochDay;
+            // Fibonacci hashing, so nearby days land in different stripes
+            long h = (fromEpochDay * 31 + toEpochDay) * 0x9E3779B97F4A7C15L;
+            this.hash = (int) (h ^ (h >>> 32));
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) o;
+            return fromEpochDay == other.fromEpochDay && toEpochDay == other.toEpochDay;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.demo.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DateRangeCacheTest {
+
+    private static final long TODAY = LocalDate.of(2024, 3, 15).toEpochDay();
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-03-15T10:00:00Z"));
+    private final AtomicInteger loads = new AtomicInteger();
+    private final DateRangeCache.Loader<String> loader = (from, to) -> {
+        loads.incrementAndGet();
+        return from + "," + to;
+    };
+
+    @Test
+    void computesEachRangeOnce() {
+        DateRangeCache<String> cache = new DateRangeCache<>(clock, 16);
+
+        String first = cache.get(19_000, 19_010, loader);
+
+        assertSame(first, cache.get(19_000, 19_010, loader));
+        assertEquals("19000,19011", cache.get(19_000, 19_011, loader));
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void coalescesConcurrentMisses() throws Exception {
+        // Nothing is stored, so the followers can only get the value by joining the leader
+        DateRangeCache<String> cache = new DateRangeCache<>(clock, 0);
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        DateRangeCache.Loader<String> slow = (from, to) -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            await(release);
+            return "range";
+        };
+        String[] results = new String[4];
+        Thread[] threads = new Thread[results.length];
+        for (int i = 0; i < threads.length; i++) {
+            int index = i;
+            threads[i] = new Thread(() -> results[index] = cache.get(19_000, 19_010, slow));
+        }
+        threads[0].start();
+        assertTrue(loading.await(5, TimeUnit.SECONDS));
+        for (int i = 1; i < threads.length; i++) {
+            threads[i].start();
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        for (int i = 1; i < threads.length; i++) {
+            while (threads[i].getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+        }
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(5_000);
+        }
+
+        assertArrayEquals(new String[]{"range", "range", "range", "range"}, results);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        DateRangeCache<String> cache = new DateRangeCache<>(clock, 16);
+        DateRangeCache.Loader<String> failing = (from, to) -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("boom");
+        };
+
+        assertThrows(IllegalStateException.class, () -> cache.get(19_000, 19_010, failing));
+        assertEquals("19000,19010", cache.get(19_000, 19_010, loader));
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void expiresRangesEndingTodayAtMidnight() {
+        DateRangeCache<String> cache = new DateRangeCache<>(clock, 16);
+        cache.get(TODAY - 10, TODAY, loader);
+        cache.get(TODAY - 10, TODAY - 1, loader);
+
+        clock.instant = Instant.parse("2024-03-15T23:59:59.999Z");
+        cache.get(TODAY - 10, TODAY, loader);
+        assertEquals(2, loads.get());
+
+        clock.instant = Instant.parse("2024-03-16T00:00:00Z");
+        cache.get(TODAY - 10, TODAY, loader);
+        cache.get(TODAY - 10, TODAY - 1, loader);
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedRange() {
+        DateRangeCache<String> cache = new DateRangeCache<>(clock, 2);
+        cache.get(1, 1, loader);
+        cache.get(2, 2, loader);
+        cache.get(1, 1, loader);
+        cache.get(3, 3, loader);
+        assertEquals(2, cache.size());
+        assertEquals(3, loads.get());
+
+        cache.get(1, 1, loader);
+        assertEquals(3, loads.get());
+        cache.get(2, 2, loader);
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void staysWithinItsSizeWhenStriped() {
+        DateRangeCache<String> cache = new DateRangeCache<>(clock, 1_000);
+        for (int day = 0; day < 10_000; day++) {
+            cache.get(day, day + 1, loader);
+        }
+        assertTrue(cache.size() <= 1_000, () -> "size " + cache.size());
+    }
+
+    @Test
+    void onlyCoalescesWhenDisabled() {
+        DateRangeCache<String> cache = new DateRangeCache<>(clock, 0);
+        cache.get(1, 1, loader);
+        cache.get(1, 1, loader);
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
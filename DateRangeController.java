@@ -1,15 +1,24 @@
+import com.example.demo.core.EndOfDayProvider;
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
-import javax.validation.constraints.NotNull;
 import java.time.OffsetDateTime;
 import java.util.HashMap;
 import java.util.Map;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DateRangeController {
 
+    private final EndOfDayProvider endOfToday;
+
+    public DateRangeController(EndOfDayProvider endOfToday) {
+        this.endOfToday = endOfToday;
+    }
+
     @GetMapping("/date-range")
     public Map<String, Object> getDateRange(
             @RequestParam("from") @NotNull(message = "From date is mandatory") OffsetDateTime fromStartOfDay,
@@ -20,7 +29,7 @@ public class DateRangeController {
         
         if (toEndOfDay == null) {
             // If `to` is not provided, default to the end of the current day
-            toEndOfDay = OffsetDateTime.now().with(LocalTime.of(23, 59, 59));
+            toEndOfDay = endOfToday.get();
         }
         response.put("to", toEndOfDay);
         
@@ -0,0 +1,149 @@
+package com.example.demo.controller;
+
+import com.example.demo.cache.DateRangeCache;
+import com.example.demo.converter.CustomDateConverter;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.converter.CustomDateRangeListConverter;
+import com.example.demo.core.EndOfDayProvider;
+import com.example.demo.http.DateRangeETagAdvice;
+import com.example.demo.http.DateRangeHttpMessageConverter;
+import com.example.demo.http.DateRejectionAdvice;
+import com.example.demo.metrics.ConversionTimingInterceptor;
+import com.example.demo.metrics.DateConversionMetrics;
+import com.example.demo.resolver.CustomDateArgumentResolver;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.ByteArrayHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@code /date-range} through the MVC stack: the {@code @CustomDate} parameters are resolved by
+ * {@link CustomDateArgumentResolver}, so they are timed and their constraints are enforced.
+ */
+class DateRangeControllerTest {
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-15T10:00:00Z"), ZoneOffset.UTC);
+
+    private MeterRegistry registry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        DateConversionMetrics metrics = new DateConversionMetrics(registry);
+        CustomDateConverter converter = new CustomDateConverter(EndOfDayProvider.utc(clock));
+        CustomDateRangeConverter rangeConverter = new CustomDateRangeConverter(metrics);
+        CustomDateRangeListConverter rangeListConverter = new CustomDateRangeListConverter(rangeConverter, metrics);
+        mockMvc = MockMvcBuilders.standaloneSetup(new DateRangeController(clock))
+                .setCustomArgumentResolvers(
+                        new CustomDateArgumentResolver(converter, rangeConverter, rangeListConverter, metrics))
+                .setControllerAdvice(new DateRejectionAdvice(registry), new DateRangeETagAdvice())
+                .setMessageConverters(new ByteArrayHttpMessageConverter(),
+                        new DateRangeHttpMessageConverter(new DateRangeCache<>(clock, 16)))
+                .addInterceptors(new ConversionTimingInterceptor())
+                .build();
+    }
+
+    @Test
+    void recordsResolvedParameters() throws Exception {
+        mockMvc.perform(get("/date-range").param("from", "01-10-2024").param("to", "01-20-2024")
+                        .accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/plain;charset=UTF-8"))
+                .andExpect(content().string("From: 2024-01-10T00:00Z, To: 2024-01-20T23:59:59.999999999Z"));
+
+        assertEquals(1, conversions("from", "ok", "parsed"));
+        assertEquals(1, conversions("to", "ok", "parsed"));
+    }
+
+    @Test
+    void writesACachedRangeLikeAFreshOne() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/date-range").param("from", "01-10-2024").param("to", "01-20-2024")
+                            .accept(MediaType.TEXT_PLAIN))
+                    .andExpect(status().isOk())
+                    .andExpect(content().string("From: 2024-01-10T00:00Z, To: 2024-01-20T23:59:59.999999999Z"));
+        }
+    }
+
+    @Test
+    void rejectsAnInvertedRange() throws Exception {
+        mockMvc.perform(get("/date-range").param("from", "01-20-2024").param("to", "01-10-2024"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("inverted-range"));
+
+        assertEquals(1, conversions("to", "constraint-violation", "parsed"));
+        assertEquals(1.0, registry.get("date.rejections").tag("reason", "inverted-range").counter().count());
+    }
+
+    @Test
+    void rejectsARangeLongerThanTheLimit() throws Exception {
+        mockMvc.perform(get("/date-range").param("from", "01-01-2024").param("to", "01-02-2025"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("span-exceeded"));
+    }
+
+    @Test
+    void rejectsAMissingFrom() throws Exception {
+        mockMvc.perform(get("/date-range").param("to", "01-10-2024"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("missing-date"));
+
+        assertEquals(1, conversions("from", "invalid-format", "none"));
+    }
+
+    @Test
+    void defaultsToToTheEndOfTodayAndCachesUntilMidnight() throws Exception {
+        String etag = mockMvc.perform(get("/date-range").param("from", "03-01-2024").accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isOk())
+                .andExpect(content().string("From: 2024-03-01T00:00Z, To: 2024-03-15T23:59:59.999999999Z"))
+                // 10:00 to midnight
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=50400"))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        assertNotNull(etag);
+        assertEquals(1, conversions("to", "empty-optional", "defaulted"));
+
+        mockMvc.perform(get("/date-range").param("from", "03-01-2024").accept(MediaType.TEXT_PLAIN)
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void doesNotCacheAnExplicitTo() throws Exception {
+        mockMvc.perform(get("/date-range").param("from", "03-01-2024").param("to", "03-15-2024")
+                        .accept(MediaType.TEXT_PLAIN))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL))
+                .andExpect(header().exists(HttpHeaders.ETAG));
+    }
+
+    private long conversions(String parameter, String outcome, String path) {
+        return registry.get(DateConversionMetrics.METRIC_NAME)
+                .tag("endpoint", "/date-range")
+                .tag("parameter", parameter)
+                .tag("outcome", outcome)
+                .tag("path", path)
+                .timer().count();
+    }
+}
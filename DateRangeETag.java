@@ -0,0 +1,142 @@
+// DateRangeETag.java
+package com.example.demo.http;
+
+import org.springframework.http.MediaType;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Strong ETag for a response that is a pure function of a converted {@code from}/{@code to}
+ * pair: a 64-bit mix of their epoch values and offsets, rendered as 16 hex digits. No hashing
+ * of the body, so it can be checked before the body is built.
+ * <p>
+ * A strong ETag promises identical bytes, so a body with more than one representation mixes
+ * in the negotiated media type as well; see {@link DateRangeETagAdvice}.
+ */
+public final class DateRangeETag {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private DateRangeETag() {
+    }
+
+    /**
+     * For a body that is the same whatever the client accepts.
+     */
+    public static String of(OffsetDateTime from, OffsetDateTime to) {
+        return of(from, to, null);
+    }
+
+    /**
+     * For a body written as {@code representation}; only its type and subtype count.
+     */
+    public static String of(OffsetDateTime from, OffsetDateTime to, MediaType representation) {
+        long hash = mix(0x9E3779B97F4A7C15L, from);
+        hash = mix(hash, to);
+        if (representation != null) {
+            hash = avalanche(hash ^ representation.getType().hashCode());
+            hash = avalanche(hash ^ representation.getSubtype().hashCode());
+        }
+        char[] etag = new char[18];
+        etag[0] = '"';
+        for (int i = 16; i >= 1; i--) {
+            etag[i] = HEX[(int) (hash & 0xF)];
+            hash >>>= 4;
+        }
+        etag[17] = '"';
+        return new String(etag);
+    }
+
+    private static long mix(long hash, OffsetDateTime value) {
+        if (value == null) {
+            return avalanche(hash);
+        }
+        hash = avalanche(hash ^ value.toEpochSecond());
+        hash = avalanche(hash ^ value.getNano());
+        return avalanche(hash ^ value.getOffset().getTotalSeconds());
+    }
+
+    // SplitMix64 finalizer
+    private static long avalanche(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
+
+// DateRangeETagAdvice.java
+package com.example.demo.http;
+
+import com.example.demo.model.DateRangeList;
+import com.example.demo.model.DateRangeModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.List;
+
+/**
+ * Date range bodies are written as text, JSON or {@code application/x-date-range} depending on
+ * {@code Accept}, so their responses carry {@code Vary: Accept}. A {@link DateRangeModel} body
+ * also gets its ETag here, once the representation is known, and a matching
+ * {@code If-None-Match} on a GET or HEAD is answered with 304 before anything is rendered. A
+ * range that {@code application/x-date-range} cannot carry, i.e. one not in UTC, is answered
+ * with 406 when that format was negotiated.
+ */
+@ControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class DateRangeETagAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(body instanceof DateRangeModel) && !(body instanceof DateRangeList)) {
+            return body;
+        }
+        HttpHeaders headers = response.getHeaders();
+        headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (!(body instanceof DateRangeModel)) {
+            return body;
+        }
+        DateRangeModel range = (DateRangeModel) body;
+        if (DateRangeBinaryHttpMessageConverter.MEDIA_TYPE.equalsTypeAndSubtype(selectedContentType)
+                && !DateRangeBinaryCodec.canEncode(range)) {
+            throw new ResponseStatusException(HttpStatus.NOT_ACCEPTABLE,
+                    DateRangeBinaryCodec.MEDIA_TYPE + " only carries UTC whole-day ranges");
+        }
+        String etag = DateRangeETag.of(range.getFrom(), range.getTo(), selectedContentType);
+        headers.setETag(etag);
+        HttpMethod method = request.getMethod();
+        if ((HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+                && matches(request.getHeaders().getIfNoneMatch(), etag)) {
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+            return null;
+        }
+        return body;
+    }
+
+    // If-None-Match compares weakly: W/"x" matches "x"
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        for (String tag : ifNoneMatch) {
+            if (tag.equals("*") || tag.equals(etag) || (tag.startsWith("W/") && tag.substring(2).equals(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+// DateRangeHttpMessageConverter.java
+package com.example.demo.http;
+
+import com.example.demo.cache.DateRangeCache;
+import com.example.demo.core.IsoDateTimeWriter;
+import com.example.demo.model.DateRangeList;
+import com.example.demo.model.DateRangeModel;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+
+/**
+ * Writes {@link DateRangeModel} and {@link DateRangeList} responses as
+ * {@code From: <from>, To: <to>} (ranges of a list joined by {@code "; "}), byte for byte what
+ * the controllers used to build with {@code String.format}, through a reusable per-thread
+ * buffer. Only produces {@code text/plain;charset=UTF-8}, so it answers requests for text and
+ * leaves JSON and the binary format to their own converters. Write-only.
+ * <p>
+ * With a {@link DateRangeCache}, the body of a UTC whole-day {@link DateRangeModel} is rendered
+ * once per pair of days and then written straight from the cached bytes; other ranges are
+ * rendered every time.
+ */
+public class DateRangeHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    public static final MediaType MEDIA_TYPE = new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8);
+
+    private static final byte[] FROM = IsoDateTimeWriter.ascii("From: ");
+    private static final byte[] TO = IsoDateTimeWriter.ascii(", To: ");
+    private static final byte[] SEPARATOR = IsoDateTimeWriter.ascii("; ");
+    // Room for one more "; From: <from>, To: <to>" before the buffer has to be flushed
+    private static final int MAX_RANGE_LENGTH = SEPARATOR.length + FROM.length + TO.length + 2 * IsoDateTimeWriter.MAX_LENGTH;
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final long NOT_A_DAY = Long.MIN_VALUE;
+
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+    private final DateRangeCache<byte[]> cache;
+
+    public DateRangeHttpMessageConverter() {
+        this(null);
+    }
+
+    public DateRangeHttpMessageConverter(DateRangeCache<byte[]> cache) {
+        super(StandardCharsets.UTF_8, MEDIA_TYPE);
+        this.cache = cache;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == DateRangeModel.class || clazz == DateRangeList.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Date ranges are not read from request bodies", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] buffer = BUFFERS.get();
+        OutputStream body = outputMessage.getBody();
+        if (value instanceof DateRangeModel) {
+            DateRangeModel range = (DateRangeModel) value;
+            long fromEpochDay = cache == null ? NOT_A_DAY : utcDay(range.getFrom(), false);
+            long toEpochDay = fromEpochDay == NOT_A_DAY ? NOT_A_DAY : utcDay(range.getTo(), true);
+            if (toEpochDay != NOT_A_DAY) {
+                body.write(cache.get(fromEpochDay, toEpochDay, DateRangeHttpMessageConverter::render));
+            } else {
+                body.write(buffer, 0, render(range, buffer));
+            }
+            return;
+        }
+
+        DateRangeList ranges = (DateRangeList) value;
+        int pos = 0;
+        for (int i = 0; i < ranges.size(); i++) {
+            if (pos > BUFFER_SIZE - MAX_RANGE_LENGTH) {
+                body.write(buffer, 0, pos);
+                pos = 0;
+            }
+            if (i > 0) {
+                pos = put(SEPARATOR, buffer, pos);
+            }
+            pos = put(FROM, buffer, pos);
+            pos = IsoDateTimeWriter.writeStartOfDay(ranges.getFromEpochDay(i), buffer, pos);
+            pos = put(TO, buffer, pos);
+            pos = IsoDateTimeWriter.writeEndOfDay(ranges.getToEpochDay(i), buffer, pos);
+        }
+        body.write(buffer, 0, pos);
+    }
+
+    private static byte[] render(long fromEpochDay, long toEpochDay) {
+        byte[] buffer = BUFFERS.get();
+        int pos = put(FROM, buffer, 0);
+        pos = IsoDateTimeWriter.writeStartOfDay(fromEpochDay, buffer, pos);
+        pos = put(TO, buffer, pos);
+        return Arrays.copyOf(buffer, IsoDateTimeWriter.writeEndOfDay(toEpochDay, buffer, pos));
+    }
+
+    // Epoch day of a UTC start or end of day, without building a LocalDate; NOT_A_DAY for anything else
+    private static long utcDay(OffsetDateTime value, boolean endOfDay) {
+        if (value == null || !ZoneOffset.UTC.equals(value.getOffset())) {
+            return NOT_A_DAY;
+        }
+        long second = value.toEpochSecond();
+        // The end of a day is its last nanosecond, just before the next day starts
+        boolean boundary = endOfDay
+                ? value.getNano() == 999_999_999 && Math.floorMod(second + 1, SECONDS_PER_DAY) == 0
+                : value.getNano() == 0 && Math.floorMod(second, SECONDS_PER_DAY) == 0;
+        return boundary ? Math.floorDiv(second, SECONDS_PER_DAY) : NOT_A_DAY;
+    }
+
+    private static int render(DateRangeModel range, byte[] buffer) {
+        int pos = put(FROM, buffer, 0);
+        pos = IsoDateTimeWriter.write(range.getFrom(), buffer, pos);
+        pos = put(TO, buffer, pos);
+        return IsoDateTimeWriter.write(range.getTo(), buffer, pos);
+    }
+
+    private static int put(byte[] bytes, byte[] buffer, int pos) {
+        System.arraycopy(bytes, 0, buffer, pos, bytes.length);
+        return pos + bytes.length;
+    }
+}
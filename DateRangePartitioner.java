@@ -0,0 +1,265 @@
+// PartitionUnit.java
+package com.example.demo.model;
+
+/**
+ * Calendar buckets a {@link DateRangeModel} can be split into, aligned in the offset of the
+ * range's {@code from}.
+ */
+public enum PartitionUnit {
+    DAY,
+    /** ISO weeks, Monday to Sunday */
+    WEEK,
+    MONTH
+}
+
+// DateRangePartitioner.java
+package com.example.demo.model;
+
+import com.example.demo.core.DayBoundaryTable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splits a {@link DateRangeModel} into aligned sub-ranges, e.g. one per day or per month for
+ * partitioned tables.
+ * <p>
+ * Buckets are numbered (epoch day, ISO week, month since year 0, or multiple of a duration since
+ * the epoch) and each one is computed from its number when it is reached, so a multi-year range
+ * costs nothing up front. The spliterator is {@code SIZED} and splits its index range in half,
+ * so {@code parallelStream()} fans out evenly. Each bucket runs from its aligned start to the
+ * instant before the next one starts; the first and last are clipped to the range.
+ */
+public final class DateRangePartitioner {
+
+    private DateRangePartitioner() {
+    }
+
+    public static Spliterator<DateRangeModel> spliterator(DateRangeModel range, PartitionUnit unit) {
+        ZoneOffset offset = range.getFrom().getOffset();
+        switch (unit) {
+            case DAY:
+                return spliterator(range, new Days(offset));
+            case WEEK:
+                return spliterator(range, new Weeks(offset));
+            case MONTH:
+                return spliterator(range, new Months(offset));
+            default:
+                throw new IllegalArgumentException("Unsupported partition unit " + unit);
+        }
+    }
+
+    /**
+     * Buckets of a fixed length aligned to 1970-01-01T00:00Z, e.g. {@code Duration.ofHours(6)}.
+     */
+    public static Spliterator<DateRangeModel> spliterator(DateRangeModel range, Duration bucket) {
+        if (bucket.isNegative() || bucket.isZero()) {
+            throw new IllegalArgumentException("Bucket duration must be positive");
+        }
+        return spliterator(range, new Fixed(bucket, range.getFrom().getOffset()));
+    }
+
+    private static Spliterator<DateRangeModel> spliterator(DateRangeModel range, Bucketing bucketing) {
+        OffsetDateTime from = range.getFrom();
+        OffsetDateTime to = range.getTo();
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Range must have both from and to");
+        }
+        long first = bucketing.index(from);
+        long last = bucketing.index(to);
+        // An inverted range has no buckets
+        long fence = to.isBefore(from) ? first : last + 1;
+        return new PartitionSpliterator(bucketing, from, to, first, last, first, fence);
+    }
+
+    private static final class PartitionSpliterator implements Spliterator<DateRangeModel> {
+
+        private final Bucketing bucketing;
+        private final OffsetDateTime from;
+        private final OffsetDateTime to;
+        private final long first;
+        private final long last;
+        private long index;
+        private final long fence;
+
+        PartitionSpliterator(Bucketing bucketing, OffsetDateTime from, OffsetDateTime to,
+                             long first, long last, long index, long fence) {
+            this.bucketing = bucketing;
+            this.from = from;
+            this.to = to;
+            this.first = first;
+            this.last = last;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super DateRangeModel> action) {
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(bucket(index++));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super DateRangeModel> action) {
+            long i = index;
+            index = fence;
+            for (; i < fence; i++) {
+                action.accept(bucket(i));
+            }
+        }
+
+        private DateRangeModel bucket(long i) {
+            OffsetDateTime start = i == first ? from : bucketing.start(i);
+            OffsetDateTime end = i == last ? to : bucketing.end(i);
+            return new DateRangeModel(start, end);
+        }
+
+        @Override
+        public Spliterator<DateRangeModel> trySplit() {
+            long remaining = fence - index;
+            if (remaining < 2) {
+                return null;
+            }
+            long mid = index + remaining / 2;
+            PartitionSpliterator prefix = new PartitionSpliterator(bucketing, from, to, first, last, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE | DISTINCT;
+        }
+    }
+
+    /**
+     * Numbers the buckets; {@code start(index(t)) <= t < start(index(t) + 1)}.
+     */
+    private abstract static class Bucketing {
+
+        final ZoneOffset offset;
+
+        Bucketing(ZoneOffset offset) {
+            this.offset = offset;
+        }
+
+        abstract long index(OffsetDateTime time);
+
+        abstract OffsetDateTime start(long index);
+
+        OffsetDateTime end(long index) {
+            return start(index + 1).minusNanos(1);
+        }
+
+        OffsetDateTime startOfDay(long epochDay) {
+            return ZoneOffset.UTC.equals(offset)
+                    ? DayBoundaryTable.START_OF_DAY.get(epochDay)
+                    : OffsetDateTime.of(LocalDate.ofEpochDay(epochDay), LocalTime.MIDNIGHT, offset);
+        }
+
+        long epochDay(OffsetDateTime time) {
+            return time.withOffsetSameInstant(offset).toLocalDate().toEpochDay();
+        }
+    }
+
+    private static final class Days extends Bucketing {
+
+        Days(ZoneOffset offset) {
+            super(offset);
+        }
+
+        @Override
+        long index(OffsetDateTime time) {
+            return epochDay(time);
+        }
+
+        @Override
+        OffsetDateTime start(long index) {
+            return startOfDay(index);
+        }
+
+        @Override
+        OffsetDateTime end(long index) {
+            return ZoneOffset.UTC.equals(offset) ? DayBoundaryTable.END_OF_DAY.get(index) : super.end(index);
+        }
+    }
+
+    private static final class Weeks extends Bucketing {
+
+        // 1970-01-01 was a Thursday, so week 0 starts on Monday 1969-12-29
+        private static final long MONDAY_OFFSET = 3;
+
+        Weeks(ZoneOffset offset) {
+            super(offset);
+        }
+
+        @Override
+        long index(OffsetDateTime time) {
+            return Math.floorDiv(epochDay(time) + MONDAY_OFFSET, 7);
+        }
+
+        @Override
+        OffsetDateTime start(long index) {
+            return startOfDay(index * 7 - MONDAY_OFFSET);
+        }
+    }
+
+    private static final class Months extends Bucketing {
+
+        Months(ZoneOffset offset) {
+            super(offset);
+        }
+
+        @Override
+        long index(OffsetDateTime time) {
+            LocalDate date = time.withOffsetSameInstant(offset).toLocalDate();
+            return date.getYear() * 12L + date.getMonthValue() - 1;
+        }
+
+        @Override
+        OffsetDateTime start(long index) {
+            LocalDate date = LocalDate.of((int) Math.floorDiv(index, 12), (int) Math.floorMod(index, 12) + 1, 1);
+            return startOfDay(date.toEpochDay());
+        }
+    }
+
+    private static final class Fixed extends Bucketing {
+
+        private final Duration bucket;
+
+        Fixed(Duration bucket, ZoneOffset offset) {
+            super(offset);
+            this.bucket = bucket;
+        }
+
+        @Override
+        long index(OffsetDateTime time) {
+            Duration sinceEpoch = Duration.between(Instant.EPOCH, time.toInstant());
+            long index = sinceEpoch.dividedBy(bucket);
+            // dividedBy truncates towards zero; buckets before the epoch need floor
+            if (sinceEpoch.minus(bucket.multipliedBy(index)).isNegative()) {
+                index--;
+            }
+            return index;
+        }
+
+        @Override
+        OffsetDateTime start(long index) {
+            return Instant.EPOCH.plus(bucket.multipliedBy(index)).atOffset(offset);
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.demo.model;
+
+import com.example.demo.core.DayBoundaryTable;
+
+import java.time.OffsetDateTime;
+import java.util.Arrays;
+
+/**
+ * Immutable, coalesced set of whole-day ranges backed by two sorted {@code long[]} arrays of
+ * inclusive epoch days.
+ * <p>
+ * Overlapping and adjacent ranges are merged on construction, so the ranges are disjoint and
+ * ordered and every query is a binary search. Union and intersection are linear merges. Nothing
+ * is allocated per range, so sets with hundreds of thousands of ranges stay cheap.
+ */
+public final class DateRangeSet {
+
+    private static final long SECONDS_PER_DAY = 86_400L;
+    private static final DateRangeSet EMPTY = new DateRangeSet(new long[0], new long[0], 0);
+
+    private final long[] from;
+    private final long[] to;
+    private final int size;
+
+    private DateRangeSet(long[] from, long[] to, int size) {
+        this.from = from;
+        this.to = to;
+        this.size = size;
+    }
+
+    public static DateRangeSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a set from parallel arrays of inclusive epoch days; the arrays are not retained.
+     */
+    public static DateRangeSet of(long[] fromEpochDays, long[] toEpochDays, int count) {
+        long[] starts = Arrays.copyOf(fromEpochDays, count);
+        long[] ends = Arrays.copyOf(toEpochDays, count);
+        for (int i = 0; i < count; i++) {
+            if (starts[i] > ends[i]) {
+                throw new IllegalArgumentException("Range " + i + " ends before it starts");
+            }
+        }
+        // For a union only the sorted order of starts and of ends matters, not which start
+        // belonged to which end, so the two arrays can be sorted independently.
+        Arrays.sort(starts);
+        Arrays.sort(ends);
+        return coalesce(starts, ends, count);
+    }
+
+    public static DateRangeSet of(DateRangeList ranges) {
+        int count = ranges.size();
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        for (int i = 0; i < count; i++) {
+            starts[i] = ranges.getFromEpochDay(i);
+            ends[i] = ranges.getToEpochDay(i);
+        }
+        return of(starts, ends, count);
+    }
+
+    public static DateRangeSet of(DateRangeModel range) {
+        return of(new long[]{epochDay(range.getFrom())}, new long[]{epochDay(range.getTo())}, 1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getFromEpochDay(int index) {
+        return from[checkIndex(index)];
+    }
+
+    public long getToEpochDay(int index) {
+        return to[checkIndex(index)];
+    }
+
+    /**
+     * The range at {@code index} as start of its first day to end of its last day in UTC.
+     */
+    public DateRangeModel get(int index) {
+        return new DateRangeModel(DayBoundaryTable.START_OF_DAY.get(getFromEpochDay(index)),
+                DayBoundaryTable.END_OF_DAY.get(getToEpochDay(index)));
+    }
+
+    public boolean contains(long epochDay) {
+        int i = lastStartAtOrBefore(epochDay);
+        return i >= 0 && to[i] >= epochDay;
+    }
+
+    public boolean contains(OffsetDateTime instant) {
+        return contains(epochDay(instant));
+    }
+
+    /**
+     * Whether any range shares at least one day with {@code [fromEpochDay, toEpochDay]}.
+     */
+    public boolean overlaps(long fromEpochDay, long toEpochDay) {
+        int i = lastStartAtOrBefore(toEpochDay);
+        return i >= 0 && to[i] >= fromEpochDay;
+    }
+
+    public boolean overlaps(DateRangeModel range) {
+        return overlaps(epochDay(range.getFrom()), epochDay(range.getTo()));
+    }
+
+    public DateRangeSet union(DateRangeSet other) {
+        if (other.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return other;
+        }
+        int count = size + other.size;
+        return coalesce(merge(from, size, other.from, other.size, count),
+                merge(to, size, other.to, other.size, count), count);
+    }
+
+    public DateRangeSet intersection(DateRangeSet other) {
+        int capacity = size + other.size;
+        long[] starts = new long[capacity];
+        long[] ends = new long[capacity];
+        int count = 0;
+        int i = 0;
+        int j = 0;
+        while (i < size && j < other.size) {
+            long start = Math.max(from[i], other.from[j]);
+            long end = Math.min(to[i], other.to[j]);
+            if (start <= end) {
+                starts[count] = start;
+                ends[count] = end;
+                count++;
+            }
+            if (to[i] < other.to[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        // Pieces of disjoint sets never overlap, but they can touch
+        return coalesce(starts, ends, count);
+    }
+
+    // Merges sorted starts/ends into disjoint ranges, joining overlapping and adjacent ones
+    private static DateRangeSet coalesce(long[] starts, long[] ends, int count) {
+        if (count == 0) {
+            return EMPTY;
+        }
+        int out = 0;
+        int i = 0;
+        while (i < count) {
+            long start = starts[i];
+            while (i + 1 < count && starts[i + 1] <= ends[i] + 1) {
+                i++;
+            }
+            // Writing in place is safe: out never passes i
+            starts[out] = start;
+            ends[out] = ends[i];
+            out++;
+            i++;
+        }
+        if (out < starts.length / 2) {
+            return new DateRangeSet(Arrays.copyOf(starts, out), Arrays.copyOf(ends, out), out);
+        }
+        return new DateRangeSet(starts, ends, out);
+    }
+
+    private static long[] merge(long[] a, int aSize, long[] b, int bSize, int count) {
+        long[] merged = new long[count];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < aSize && j < bSize) {
+            merged[k++] = a[i] <= b[j] ? a[i++] : b[j++];
+        }
+        while (i < aSize) {
+            merged[k++] = a[i++];
+        }
+        while (j < bSize) {
+            merged[k++] = b[j++];
+        }
+        return merged;
+    }
+
+    private int lastStartAtOrBefore(long epochDay) {
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (from[mid] <= epochDay) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return high;
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
+
+    private static long epochDay(OffsetDateTime dateTime) {
+        return Math.floorDiv(dateTime.toEpochSecond(), SECONDS_PER_DAY);
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.demo.core;
+
+/**
+ * Rejected date or range input.
+ * <p>
+ * There is one shared instance per {@link Reason}. It is built with suppression and a writable
+ * stack trace both disabled, so it carries no frames and {@code addSuppressed} leaves it
+ * untouched; it has no cause and none can be set.
+ */
+public final class DateRejectedException extends RuntimeException {
+
+    public enum Reason {
+        MISSING_DATE(DateParseResult.EMPTY, "missing-date", "Date is required"),
+        INVALID_DATE(DateParseResult.INVALID_FORMAT, "invalid-date", "Invalid date format. Please use MM-dd-yyyy."),
+        MISSING_RANGE(DateParseResult.EMPTY, "missing-range", "Invalid date range format"),
+        INVALID_RANGE(DateParseResult.INVALID_RANGE, "invalid-range", "Invalid date range format"),
+        TOO_EARLY(DateParseResult.TOO_EARLY, "too-early", "Date is before the earliest allowed date"),
+        TOO_LATE(DateParseResult.TOO_LATE, "too-late", "Date is after the latest allowed date"),
+        INVERTED_RANGE(DateParseResult.INVERTED_RANGE, "inverted-range", "Range end is before its start"),
+        SPAN_EXCEEDED(DateParseResult.SPAN_EXCEEDED, "span-exceeded", "Date range is longer than allowed");
+
+        private final int code;
+        private final String tag;
+        private final String message;
+
+        Reason(int code, String tag, String message) {
+            this.code = code;
+            this.tag = tag;
+            this.message = message;
+        }
+
+        /** One of the {@link DateParseResult} error codes. */
+        public int code() {
+            return code;
+        }
+
+        public String tag() {
+            return tag;
+        }
+
+        public String message() {
+            return message;
+        }
+    }
+
+    private static final DateRejectedException[] INSTANCES = new DateRejectedException[Reason.values().length];
+
+    static {
+        for (Reason reason : Reason.values()) {
+            INSTANCES[reason.ordinal()] = new DateRejectedException(reason);
+        }
+    }
+
+    private final Reason reason;
+
+    private DateRejectedException(Reason reason) {
+        super(reason.message(), null, false, false);
+        this.reason = reason;
+    }
+
+    public static DateRejectedException of(Reason reason) {
+        return INSTANCES[reason.ordinal()];
+    }
+
+    /** The rejection for a single date that failed with a {@link DateParseResult} error code. */
+    public static DateRejectedException forDate(int code) {
+        return of(code == DateParseResult.EMPTY ? Reason.MISSING_DATE : Reason.INVALID_DATE);
+    }
+
+    /** The rejection for a {@code from,to} range that failed with a {@link DateParseResult} error code. */
+    public static DateRejectedException forRange(int code) {
+        if (code == DateParseResult.EMPTY) {
+            return of(Reason.MISSING_RANGE);
+        }
+        return of(code == DateParseResult.INVALID_RANGE ? Reason.INVALID_RANGE : Reason.INVALID_DATE);
+    }
+
+    public Reason getReason() {
+        return reason;
+    }
+
+    public int getCode() {
+        return reason.code();
+    }
+}
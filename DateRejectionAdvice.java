@@ -0,0 +1,90 @@
+package com.example.demo.http;
+
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.metrics.ConversionTiming;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Answers {@link DateRejectedException} with a 400 built once per reason at startup, e.g.
+ * {@code {"error":"invalid-date","code":2,"message":"..."}}, and counts it in
+ * {@code date.rejections} tagged by reason, unless the request is one of the application's own
+ * warm-up requests. Nothing is rendered or logged per request.
+ */
+@ControllerAdvice
+public class DateRejectionAdvice {
+
+    private static final String[] FIELDS = new String[DateRejectedException.Reason.values().length];
+
+    static {
+        for (DateRejectedException.Reason reason : DateRejectedException.Reason.values()) {
+            FIELDS[reason.ordinal()] = "\"error\":\"" + reason.tag() + "\",\"code\":" + reason.code()
+                    + ",\"message\":\"" + reason.message() + "\"";
+        }
+    }
+
+    private final ResponseEntity<byte[]>[] responses;
+    private final Counter[] counters;
+
+    @SuppressWarnings("unchecked")
+    public DateRejectionAdvice(MeterRegistry registry) {
+        DateRejectedException.Reason[] reasons = DateRejectedException.Reason.values();
+        this.responses = new ResponseEntity[reasons.length];
+        this.counters = new Counter[reasons.length];
+        for (DateRejectedException.Reason reason : reasons) {
+            byte[] body = ("{" + fields(reason) + "}").getBytes(StandardCharsets.UTF_8);
+            responses[reason.ordinal()] = ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .contentLength(body.length)
+                    .body(body);
+            counters[reason.ordinal()] = Counter.builder("date.rejections")
+                    .tag("reason", reason.tag())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * The members of the error body for {@code reason}, without the braces, e.g.
+     * {@code "error":"invalid-date","code":2,"message":"..."}. The batch endpoint writes the
+     * same members into its per-line errors.
+     */
+    public static String fields(DateRejectedException.Reason reason) {
+        return FIELDS[reason.ordinal()];
+    }
+
+    @ExceptionHandler(DateRejectedException.class)
+    public ResponseEntity<byte[]> rejected(DateRejectedException e) {
+        int index = e.getReason().ordinal();
+        if (ConversionTiming.recording()) {
+            counters[index].increment();
+        }
+        return responses[index];
+    }
+
+    /**
+     * {@code @RequestParam} conversion wraps the rejection, with a stack trace, in a type
+     * mismatch; unwrap it. {@code @CustomDate} and {@code @CustomDateRange} parameters skip this
+     * path, see {@code CustomDateArgumentResolver}. An {@link IllegalStateException} is a
+     * misconfigured annotation, not a bad request, so it is rethrown to end as a 500. Any other
+     * type mismatch is left to the default handling.
+     */
+    @ExceptionHandler(TypeMismatchException.class)
+    public ResponseEntity<byte[]> typeMismatch(TypeMismatchException e) throws TypeMismatchException {
+        Throwable cause = e.getMostSpecificCause();
+        if (cause instanceof DateRejectedException) {
+            return rejected((DateRejectedException) cause);
+        }
+        if (cause instanceof IllegalStateException) {
+            throw (IllegalStateException) cause;
+        }
+        throw e;
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.core;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Canonical UTC {@link OffsetDateTime} instances at a fixed time of day, indexed by epoch day.
+ * <p>
+ * Days inside the window are created on first use and then shared for the life of the process,
+ * so a conversion that hits the table allocates nothing. Days outside the window go through a
+ * small LRU cache. The default window (1970-2100) can be moved with the
+ * {@code datetimeconverter.table.firstYear} / {@code lastYear} system properties.
+ */
+public final class DayBoundaryTable {
+
+    private static final int FIRST_YEAR = Integer.getInteger("datetimeconverter.table.firstYear", 1970);
+    private static final int LAST_YEAR = Integer.getInteger("datetimeconverter.table.lastYear", 2100);
+    private static final int FALLBACK_SIZE = Integer.getInteger("datetimeconverter.table.fallbackSize", 1024);
+
+    /** 00:00:00 UTC. */
+    public static final DayBoundaryTable START_OF_DAY = new DayBoundaryTable(LocalTime.MIDNIGHT);
+    /** 23:59:59.999999999 UTC, the instant before the next day starts. */
+    public static final DayBoundaryTable END_OF_DAY = new DayBoundaryTable(LocalTime.MAX);
+
+    private final LocalTime time;
+    private final long firstEpochDay;
+    private final AtomicReferenceArray<OffsetDateTime> table;
+    private final Map<Long, OffsetDateTime> fallback;
+
+    public DayBoundaryTable(LocalTime time) {
+        this(time, FIRST_YEAR, LAST_YEAR, FALLBACK_SIZE);
+    }
+
+    public DayBoundaryTable(LocalTime time, int firstYear, int lastYear, int fallbackSize) {
+        if (lastYear < firstYear) {
+            throw new IllegalArgumentException("lastYear must not be before firstYear");
+        }
+        this.time = time;
+        this.firstEpochDay = LocalDate.of(firstYear, 1, 1).toEpochDay();
+        long lastEpochDay = LocalDate.of(lastYear, 12, 31).toEpochDay();
+        this.table = new AtomicReferenceArray<>(Math.toIntExact(lastEpochDay - firstEpochDay + 1));
+        this.fallback = Collections.synchronizedMap(new LinkedHashMap<Long, OffsetDateTime>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, OffsetDateTime> eldest) {
+                return size() > fallbackSize;
+            }
+        });
+    }
+
+    public OffsetDateTime get(long epochDay) {
+        long index = epochDay - firstEpochDay;
+        if (index < 0 || index >= table.length()) {
+            return fallback.computeIfAbsent(epochDay, this::create);
+        }
+        int i = (int) index;
+        OffsetDateTime cached = table.get(i);
+        if (cached != null) {
+            return cached;
+        }
+        OffsetDateTime created = create(epochDay);
+        // Keep the first published instance so every caller sees the same canonical object
+        return table.compareAndSet(i, null, created) ? created : table.get(i);
+    }
+
+    private OffsetDateTime create(long epochDay) {
+        return OffsetDateTime.of(LocalDate.ofEpochDay(epochDay), time, ZoneOffset.UTC);
+    }
+}
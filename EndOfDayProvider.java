@@ -0,0 +1,89 @@
+package com.example.demo.core;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * "Today at {@code time}" for defaulting a missing {@code to} parameter.
+ * <p>
+ * The value only changes at midnight, so it is computed once per day and zone and then served
+ * from cache; the per-call cost is one {@link Clock#millis()} read and a comparison. Inject a
+ * fixed {@link Clock} to pin the date in tests.
+ */
+public class EndOfDayProvider {
+
+    private final Clock clock;
+    private final LocalTime time;
+    private final ConcurrentMap<ZoneId, Entry> otherZones = new ConcurrentHashMap<>();
+    private volatile Entry current;
+
+    public EndOfDayProvider(Clock clock, LocalTime time) {
+        this.clock = clock;
+        this.time = time;
+        this.current = compute(clock.getZone(), clock.millis());
+    }
+
+    /**
+     * 23:59:59.999999999 of the current UTC day.
+     */
+    public static EndOfDayProvider utc(Clock clock) {
+        return new EndOfDayProvider(clock.withZone(ZoneOffset.UTC), LocalTime.MAX);
+    }
+
+    /**
+     * Today in the clock's zone.
+     */
+    public OffsetDateTime get() {
+        long now = clock.millis();
+        Entry entry = current;
+        if (now >= entry.validUntilMillis || now < entry.validFromMillis) {
+            entry = compute(clock.getZone(), now);
+            current = entry;
+        }
+        return entry.value;
+    }
+
+    /**
+     * Today in {@code zone}, with the offset that zone has at {@code time}.
+     */
+    public OffsetDateTime get(ZoneId zone) {
+        if (zone.equals(clock.getZone())) {
+            return get();
+        }
+        long now = clock.millis();
+        Entry entry = otherZones.get(zone);
+        if (entry == null || now >= entry.validUntilMillis || now < entry.validFromMillis) {
+            entry = compute(zone, now);
+            otherZones.put(zone, entry);
+        }
+        return entry.value;
+    }
+
+    private Entry compute(ZoneId zone, long nowMillis) {
+        LocalDate today = LocalDate.ofInstant(Instant.ofEpochMilli(nowMillis), zone);
+        OffsetDateTime value = today.atTime(time).atZone(zone).toOffsetDateTime();
+        long validFrom = today.atStartOfDay(zone).toInstant().toEpochMilli();
+        long validUntil = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new Entry(value, validFrom, validUntil);
+    }
+
+    private static final class Entry {
+        final OffsetDateTime value;
+        // The day the value belongs to, [validFrom, validUntil) in epoch millis
+        final long validFromMillis;
+        final long validUntilMillis;
+
+        Entry(OffsetDateTime value, long validFromMillis, long validUntilMillis) {
+            this.value = value;
+            this.validFromMillis = validFromMillis;
+            this.validUntilMillis = validUntilMillis;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 // CustomDate.java
 package com.example.demo.annotation;
 
+import com.example.demo.core.DateFormat;
+
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -12,46 +14,141 @@ public @interface CustomDate {
     String message() default "Invalid date format. Use MM-dd-yyyy";
     boolean optional() default false;
     boolean endOfDay() default false;
+    DateFormat[] formats() default {DateFormat.MM_DD_YYYY};
+    /** Zone id the day boundaries are taken in, e.g. "Europe/Berlin"; empty means UTC. */
+    String zone() default "";
+    /** Earliest allowed day as {@code MM-dd-yyyy}; empty means no lower bound. */
+    String earliest() default "";
+    /** Latest allowed day as {@code MM-dd-yyyy}; empty means no upper bound. */
+    String latest() default "";
+    /**
+     * Name of a {@code @CustomDate} parameter of the same handler that this one must not
+     * precede, e.g. {@code "from"} on {@code to}; a defaulted value is checked too.
+     */
+    String after() default "";
+    /** Longest allowed span from {@link #after()} in days, both ends included; 0 means no limit. */
+    int maxDays() default 0;
+}
+
+// DateFormat.java
+package com.example.demo.core;
+
+/**
+ * Input formats a {@code @CustomDate} parameter may accept. Instants (offset date-times and
+ * epoch numbers) are reduced to a day before the start/end-of-day boundary is applied.
+ */
+public enum DateFormat {
+    /** {@code 12-31-2024} */
+    MM_DD_YYYY,
+    /** {@code 2024-12-31} */
+    ISO_DATE,
+    /** {@code 2024-12-31T10:15:30+01:00}; the date as written is used */
+    ISO_OFFSET_DATE_TIME,
+    /** Seconds since 1970-01-01T00:00Z; the UTC day is used */
+    EPOCH_SECONDS,
+    /** Milliseconds since 1970-01-01T00:00Z; the UTC day is used */
+    EPOCH_MILLIS;
+
+    public int mask() {
+        return 1 << ordinal();
+    }
+
+    public static int mask(DateFormat... formats) {
+        int mask = 0;
+        for (DateFormat format : formats) {
+            mask |= format.mask();
+        }
+        return mask;
+    }
 }
 
 // CustomDateConverter.java
 package com.example.demo.converter;
 
-import com.example.demo.annotation.CustomDate;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateFormat;
+import com.example.demo.core.EndOfDayProvider;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
+import java.util.function.Supplier;
 
+/**
+ * Spring adapter over {@link DateEngine}; "today" for defaults comes from {@link EndOfDayProvider}.
+ */
 @Component
 public class CustomDateConverter implements Converter<String, OffsetDateTime> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
-    private final CustomDate annotation;
+    private static final Supplier<OffsetDateTime> NO_DEFAULT = () -> null;
+
+    private final EndOfDayProvider endOfTodayProvider;
+    private final Supplier<OffsetDateTime> endOfToday;
+    private final Converter<String, OffsetDateTime> startOfDayConverter = DateEngine.dateParser(false)::apply;
+    private final Converter<String, OffsetDateTime> endOfDayConverter = DateEngine.dateParser(true)::apply;
 
-    public CustomDateConverter(CustomDate annotation) {
-        this.annotation = annotation;
+    public CustomDateConverter(EndOfDayProvider endOfToday) {
+        this.endOfTodayProvider = endOfToday;
+        this.endOfToday = endOfToday::get;
     }
 
+    /**
+     * A required date at the start of its day.
+     */
     @Override
     public OffsetDateTime convert(String source) {
+        return convert(source, false, false);
+    }
+
+    public OffsetDateTime convert(String source, boolean optional, boolean endOfDay) {
         if (source == null || source.isEmpty()) {
-            if (annotation.optional() && annotation.endOfDay()) {
-                return OffsetDateTime.now(ZoneOffset.UTC)
-                        .withHour(23).withMinute(59).withSecond(59).withNano(999999999);
-            }
-            return null;
+            return defaultValue(optional, endOfDay).get();
         }
+        return converter(endOfDay).convert(source);
+    }
 
-        LocalDate date = LocalDate.parse(source, DATE_FORMATTER);
-        if (annotation.endOfDay()) {
-            return date.plusDays(1).atStartOfDay().minusNanos(1).atOffset(ZoneOffset.UTC);
-        } else {
-            return date.atStartOfDay().atOffset(ZoneOffset.UTC);
+    /**
+     * Converter for non-empty {@code MM-dd-yyyy} values, for callers that pick it once and reuse it.
+     */
+    public Converter<String, OffsetDateTime> converter(boolean endOfDay) {
+        return endOfDay ? endOfDayConverter : startOfDayConverter;
+    }
+
+    /**
+     * Same as {@link #converter(boolean)} for any combination of formats.
+     */
+    public Converter<String, OffsetDateTime> converter(boolean endOfDay, DateFormat... formats) {
+        return converter(endOfDay, ZoneOffset.UTC, formats);
+    }
+
+    /**
+     * Same as {@link #converter(boolean, DateFormat...)} with day boundaries taken in {@code zone}.
+     */
+    public Converter<String, OffsetDateTime> converter(boolean endOfDay, ZoneId zone, DateFormat... formats) {
+        int formatMask = DateFormat.mask(formats);
+        if (DateEngine.isDefault(zone, formatMask)) {
+            return converter(endOfDay);
         }
+        return DateEngine.dateParser(endOfDay, zone, formatMask)::apply;
+    }
+
+    /**
+     * Value used when the parameter is missing: end of today for optional end-of-day dates, otherwise null.
+     */
+    public Supplier<OffsetDateTime> defaultValue(boolean optional, boolean endOfDay) {
+        return optional && endOfDay ? endOfToday : NO_DEFAULT;
+    }
+
+    /**
+     * Same as {@link #defaultValue(boolean, boolean)} with "today" taken in {@code zone}.
+     */
+    public Supplier<OffsetDateTime> defaultValue(boolean optional, boolean endOfDay, ZoneId zone) {
+        if (zone.normalized().equals(ZoneOffset.UTC) || !(optional && endOfDay)) {
+            return defaultValue(optional, endOfDay);
+        }
+        return () -> endOfTodayProvider.get(zone);
     }
 }
 
@@ -59,35 +156,56 @@ public class CustomDateConverter implements Converter<String, OffsetDateTime> {
 package com.example.demo.validator;
 
 import com.example.demo.annotation.CustomDate;
-import javax.validation.ConstraintValidator;
-import javax.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateFormat;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class CustomDateValidator implements ConstraintValidator<CustomDate, String> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+    // Injected when Spring's validator factory creates the instance
+    @Autowired(required = false)
+    private DateConversionMetrics metrics;
+
     private boolean optional;
+    private int formatMask;
+    private DateConstraints constraints;
+    private DateConversionMetrics.Recorder recorder = DateConversionMetrics.Recorder.NONE;
 
     @Override
     public void initialize(CustomDate constraintAnnotation) {
         this.optional = constraintAnnotation.optional();
+        this.formatMask = DateFormat.mask(constraintAnnotation.formats());
+        // Only the bounds; span and ordering need the other parameter, see CustomDateConstraints
+        this.constraints = DateConstraints.of(constraintAnnotation.earliest(), constraintAnnotation.latest(), 0, false);
+        if (metrics != null) {
+            this.recorder = metrics.recorder(DateConversionMetrics.VALIDATOR, "date");
+        }
     }
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
         if (optional && (value == null || value.isEmpty())) {
+            recorder.record(ConversionOutcome.EMPTY_OPTIONAL, ConversionPath.NONE, System.nanoTime() - start);
             return true;
         }
-        if (!optional && (value == null || value.isEmpty())) {
-            return false;
-        }
-        try {
-            DATE_FORMATTER.parse(value);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        ConversionOutcome outcome;
+        if (value == null || value.isEmpty() || !DateEngine.isValidDate(value, formatMask)) {
+            outcome = ConversionOutcome.INVALID_FORMAT;
+        } else if (!DateEngine.isValidDate(value, formatMask, constraints)) {
+            outcome = ConversionOutcome.CONSTRAINT_VIOLATION;
+        } else {
+            outcome = ConversionOutcome.OK;
         }
+        recorder.record(outcome, outcome == ConversionOutcome.OK ? ConversionPath.PARSED : ConversionPath.NONE,
+                System.nanoTime() - start);
+        return outcome == ConversionOutcome.OK;
     }
 }
 
@@ -95,28 +213,30 @@ public class CustomDateValidator implements ConstraintValidator<CustomDate, Stri
 package com.example.demo.controller;
 
 import com.example.demo.annotation.CustomDate;
+import com.example.demo.model.DateRangeModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.time.OffsetDateTime;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DateRangeController {
 
     @GetMapping("/date-range")
-    public ResponseEntity<String> getDateRange(
-            @RequestParam @CustomDate OffsetDateTime from,
-            @RequestParam(required = false) @CustomDate(optional = true, endOfDay = true) OffsetDateTime to) {
+    public ResponseEntity<DateRangeModel> getDateRange(
+            @CustomDate OffsetDateTime from,
+            @CustomDate(optional = true, endOfDay = true) OffsetDateTime to) {
 
-        return ResponseEntity.ok(String.format("From: %s, To: %s", from, to));
+        return ResponseEntity.ok(new DateRangeModel(from, to));
     }
 
     @GetMapping("/another-endpoint")
     public ResponseEntity<String> anotherEndpoint(
-            @RequestParam @CustomDate OffsetDateTime from,
-            @RequestParam(required = false) @CustomDate(optional = true, endOfDay = true) OffsetDateTime to) {
+            @CustomDate OffsetDateTime from,
+            @CustomDate(optional = true, endOfDay = true) OffsetDateTime to) {
 
         return ResponseEntity.ok("Another endpoint using the same date conversion");
     }
@@ -126,35 +246,55 @@ public class DateRangeController {
 package com.example.demo.validator;
 
 import com.example.demo.annotation.CustomDate;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateFormat;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
-
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class CustomDateValidator implements ConstraintValidator<CustomDate, String> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+    // Injected when Spring's validator factory creates the instance
+    @Autowired(required = false)
+    private DateConversionMetrics metrics;
+
     private boolean optional;
+    private int formatMask;
+    private DateConstraints constraints;
+    private DateConversionMetrics.Recorder recorder = DateConversionMetrics.Recorder.NONE;
 
     @Override
     public void initialize(CustomDate constraintAnnotation) {
         this.optional = constraintAnnotation.optional();
+        this.formatMask = DateFormat.mask(constraintAnnotation.formats());
+        // Only the bounds; span and ordering need the other parameter, see CustomDateConstraints
+        this.constraints = DateConstraints.of(constraintAnnotation.earliest(), constraintAnnotation.latest(), 0, false);
+        if (metrics != null) {
+            this.recorder = metrics.recorder(DateConversionMetrics.VALIDATOR, "date");
+        }
     }
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
         if (optional && (value == null || value.isEmpty())) {
+            recorder.record(ConversionOutcome.EMPTY_OPTIONAL, ConversionPath.NONE, System.nanoTime() - start);
             return true;
         }
-        if (!optional && (value == null || value.isEmpty())) {
-            return false;
-        }
-        try {
-            DATE_FORMATTER.parse(value);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        ConversionOutcome outcome;
+        if (value == null || value.isEmpty() || !DateEngine.isValidDate(value, formatMask)) {
+            outcome = ConversionOutcome.INVALID_FORMAT;
+        } else if (!DateEngine.isValidDate(value, formatMask, constraints)) {
+            outcome = ConversionOutcome.CONSTRAINT_VIOLATION;
+        } else {
+            outcome = ConversionOutcome.OK;
         }
+        recorder.record(outcome, outcome == ConversionOutcome.OK ? ConversionPath.PARSED : ConversionPath.NONE,
+                System.nanoTime() - start);
+        return outcome == ConversionOutcome.OK;
     }
 }
@@ -0,0 +1,112 @@
+package com.example.demo.core;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Writes {@link OffsetDateTime#toString()} as ASCII bytes without building a String.
+ * <p>
+ * The values we answer with are UTC and sit on one of a few day boundaries, so the output is a
+ * {@code yyyy-MM-dd} prefix, cached per epoch day over the {@code DayBoundaryTable} window,
+ * followed by a constant time suffix. Anything else falls back to {@code toString()}.
+ */
+public final class IsoDateTimeWriter {
+
+    /** Longest {@code toString()} of an {@link OffsetDateTime}: +999999999-12-31T23:59:59.999999999+18:00:00 */
+    public static final int MAX_LENGTH = 48;
+
+    private static final byte[] MIDNIGHT = ascii("T00:00Z");
+    private static final byte[] END_OF_SECOND = ascii("T23:59:59Z");
+    private static final byte[] END_OF_DAY = ascii("T23:59:59.999999999Z");
+    private static final LocalTime LAST_SECOND = LocalTime.of(23, 59, 59);
+
+    private static final long FIRST_EPOCH_DAY =
+            LocalDate.of(Integer.getInteger("datetimeconverter.table.firstYear", 1970), 1, 1).toEpochDay();
+    private static final long LAST_EPOCH_DAY =
+            LocalDate.of(Integer.getInteger("datetimeconverter.table.lastYear", 2100), 12, 31).toEpochDay();
+    private static final AtomicReferenceArray<byte[]> PREFIXES =
+            new AtomicReferenceArray<>(Math.toIntExact(LAST_EPOCH_DAY - FIRST_EPOCH_DAY + 1));
+
+    private IsoDateTimeWriter() {
+    }
+
+    /**
+     * Writes {@code value.toString()} (or {@code "null"}) at {@code pos}, which must have
+     * {@link #MAX_LENGTH} bytes of room, and returns the position after it.
+     */
+    public static int write(OffsetDateTime value, byte[] buffer, int pos) {
+        if (value == null) {
+            return writeAscii("null", buffer, pos);
+        }
+        if (ZoneOffset.UTC.equals(value.getOffset())) {
+            byte[] suffix = suffix(value.toLocalTime());
+            long epochDay = value.toLocalDate().toEpochDay();
+            if (suffix != null && epochDay >= FIRST_EPOCH_DAY && epochDay <= LAST_EPOCH_DAY) {
+                return writeDay(epochDay, suffix, buffer, pos);
+            }
+        }
+        return writeAscii(value.toString(), buffer, pos);
+    }
+
+    /** Same bytes as writing {@code DayBoundaryTable.START_OF_DAY.get(epochDay)}. */
+    public static int writeStartOfDay(long epochDay, byte[] buffer, int pos) {
+        return writeDay(epochDay, MIDNIGHT, buffer, pos);
+    }
+
+    /** Same bytes as writing {@code DayBoundaryTable.END_OF_DAY.get(epochDay)}. */
+    public static int writeEndOfDay(long epochDay, byte[] buffer, int pos) {
+        return writeDay(epochDay, END_OF_DAY, buffer, pos);
+    }
+
+    private static int writeDay(long epochDay, byte[] suffix, byte[] buffer, int pos) {
+        if (epochDay < FIRST_EPOCH_DAY || epochDay > LAST_EPOCH_DAY) {
+            pos = writeAscii(LocalDate.ofEpochDay(epochDay).toString(), buffer, pos);
+        } else {
+            byte[] prefix = prefix(epochDay);
+            System.arraycopy(prefix, 0, buffer, pos, prefix.length);
+            pos += prefix.length;
+        }
+        System.arraycopy(suffix, 0, buffer, pos, suffix.length);
+        return pos + suffix.length;
+    }
+
+    private static byte[] suffix(LocalTime time) {
+        if (time.equals(LocalTime.MIDNIGHT)) {
+            return MIDNIGHT;
+        }
+        if (time.equals(LocalTime.MAX)) {
+            return END_OF_DAY;
+        }
+        if (time.equals(LAST_SECOND)) {
+            return END_OF_SECOND;
+        }
+        return null;
+    }
+
+    private static byte[] prefix(long epochDay) {
+        int i = (int) (epochDay - FIRST_EPOCH_DAY);
+        byte[] prefix = PREFIXES.get(i);
+        if (prefix == null) {
+            // Racing writers produce equal arrays, so either one may win
+            prefix = ascii(LocalDate.ofEpochDay(epochDay).toString());
+            PREFIXES.set(i, prefix);
+        }
+        return prefix;
+    }
+
+    private static int writeAscii(String text, byte[] buffer, int pos) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer[pos++] = (byte) text.charAt(i);
+        }
+        return pos;
+    }
+
+    public static byte[] ascii(String text) {
+        byte[] bytes = new byte[text.length()];
+        writeAscii(text, bytes, 0);
+        return bytes;
+    }
+}
@@ -0,0 +1,383 @@
+// LoadTestHarness.java
+package com.example.demo.loadtest;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Starts the application in-process once per {@link ServerMode}, drives {@code GET /date-range}
+ * with a closed loop of concurrent clients and prints throughput, latency percentiles and
+ * allocation rate for each mode. Needs nothing but the JVM (21+ for virtual threads).
+ * <p>
+ * Settings are system properties:
+ * <ul>
+ *     <li>{@code load.modes} - comma separated {@link ServerMode}s, default all</li>
+ *     <li>{@code load.concurrency} - concurrent clients, default 256</li>
+ *     <li>{@code load.warmupSeconds} / {@code load.durationSeconds} - default 10 / 30</li>
+ *     <li>{@code load.mix} - valid,range,invalid percentages, default 70,20,10</li>
+ * </ul>
+ * The "rejected" columns count 4xx/5xx answers per part of the mix. Only the invalid part is
+ * meant to be rejected; valid and range requests stay within the endpoint's ordering and span
+ * limits, and a mode that rejects any of them is flagged, since its numbers would compare 400s
+ * with 200s. "errors" counts requests that got no answer at all. The allocation rate covers the
+ * whole JVM, so it includes the load generator itself; compare it across modes rather than
+ * reading it as an absolute number.
+ */
+public class LoadTestHarness {
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 256);
+        Duration warmup = Duration.ofSeconds(Integer.getInteger("load.warmupSeconds", 10));
+        Duration duration = Duration.ofSeconds(Integer.getInteger("load.durationSeconds", 30));
+        LoadMix mix = LoadMix.parse(System.getProperty("load.mix", "70,20,10"));
+
+        List<Result> results = new ArrayList<>();
+        for (String name : System.getProperty("load.modes", "PLATFORM,VIRTUAL,REACTIVE").split(",")) {
+            ServerMode mode = ServerMode.valueOf(name.trim().toUpperCase(Locale.ROOT));
+            results.add(run(mode, concurrency, warmup, duration, mix));
+        }
+
+        System.out.printf("%-10s %12s %10s %10s %10s %14s %14s %14s %10s %12s%n",
+                "mode", "req/s", "p50 ms", "p99 ms", "p999 ms", "rejected valid", "rejected range",
+                "rejected inv.", "errors", "alloc MB/s");
+        for (Result result : results) {
+            System.out.printf("%-10s %12.0f %10.3f %10.3f %10.3f %14d %14d %14d %10d %12.1f%n",
+                    result.mode, result.throughput, result.p50Millis, result.p99Millis, result.p999Millis,
+                    result.rejected(LoadMix.Category.VALID), result.rejected(LoadMix.Category.RANGE),
+                    result.rejected(LoadMix.Category.INVALID), result.errors, result.allocatedMegabytesPerSecond);
+        }
+        for (Result result : results) {
+            long unexpected = result.rejected(LoadMix.Category.VALID) + result.rejected(LoadMix.Category.RANGE);
+            if (unexpected > 0) {
+                System.out.printf("WARNING: %s rejected %d valid or range requests; its numbers are not comparable%n",
+                        result.mode, unexpected);
+            }
+        }
+    }
+
+    static Result run(ServerMode mode, int concurrency, Duration warmup, Duration duration, LoadMix mix) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(LoadTestApplication.class)
+                .properties(mode.properties())
+                .properties("server.port=0", "spring.main.banner-mode=off")
+                .run()) {
+            int port = Integer.parseInt(context.getEnvironment().getRequiredProperty("local.server.port"));
+            URI base = URI.create("http://localhost:" + port);
+            try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+                HttpClient client = HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .executor(clients)
+                        .build();
+                drive(client, base, clients, concurrency, warmup, mix);
+                long allocatedBefore = allocatedBytes();
+                long start = System.nanoTime();
+                Measurement measurement = drive(client, base, clients, concurrency, duration, mix);
+                double seconds = (System.nanoTime() - start) / 1e9;
+                double allocatedMegabytes = (allocatedBytes() - allocatedBefore) / (1024.0 * 1024.0);
+                return new Result(mode, measurement.histogram.count() / seconds,
+                        measurement.histogram.percentile(0.50) / 1e6,
+                        measurement.histogram.percentile(0.99) / 1e6,
+                        measurement.histogram.percentile(0.999) / 1e6,
+                        measurement.rejected.clone(), measurement.errors, allocatedMegabytes / seconds);
+            }
+        }
+    }
+
+    private static Measurement drive(HttpClient client, URI base, ExecutorService clients, int concurrency,
+                                     Duration duration, LoadMix mix) throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<Measurement>> workers = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            long seed = i;
+            workers.add(clients.submit(() -> worker(client, running, mix.requests(base, seed))));
+        }
+        Thread.sleep(duration.toMillis());
+        running.set(false);
+
+        Measurement total = new Measurement();
+        for (Future<Measurement> worker : workers) {
+            total.add(worker.get());
+        }
+        return total;
+    }
+
+    private static Measurement worker(HttpClient client, AtomicBoolean running, LoadMix.Requests requests) {
+        Measurement measurement = new Measurement();
+        int next = 0;
+        while (running.get()) {
+            int i = next++ & (requests.size() - 1);
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(requests.request(i), HttpResponse.BodyHandlers.discarding());
+                measurement.histogram.record(System.nanoTime() - start);
+                // Counted per part of the mix, so a rejected valid request cannot pass for a served one
+                if (response.statusCode() >= 400) {
+                    measurement.rejected[requests.category(i).ordinal()]++;
+                }
+            } catch (Exception e) {
+                measurement.errors++;
+            }
+        }
+        return measurement;
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean()).getTotalThreadAllocatedBytes();
+    }
+
+    static final class Measurement {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final long[] rejected = new long[LoadMix.Category.values().length];
+        long errors;
+
+        void add(Measurement other) {
+            histogram.add(other.histogram);
+            for (int i = 0; i < rejected.length; i++) {
+                rejected[i] += other.rejected[i];
+            }
+            errors += other.errors;
+        }
+    }
+
+    static final class Result {
+        final ServerMode mode;
+        final double throughput;
+        final double p50Millis;
+        final double p99Millis;
+        final double p999Millis;
+        final long[] rejected;
+        final long errors;
+        final double allocatedMegabytesPerSecond;
+
+        Result(ServerMode mode, double throughput, double p50Millis, double p99Millis, double p999Millis,
+               long[] rejected, long errors, double allocatedMegabytesPerSecond) {
+            this.mode = mode;
+            this.throughput = throughput;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.p999Millis = p999Millis;
+            this.rejected = rejected;
+            this.errors = errors;
+            this.allocatedMegabytesPerSecond = allocatedMegabytesPerSecond;
+        }
+
+        long rejected(LoadMix.Category category) {
+            return rejected[category.ordinal()];
+        }
+    }
+}
+
+// ServerMode.java
+package com.example.demo.loadtest;
+
+public enum ServerMode {
+    /** Tomcat with its platform thread pool. */
+    PLATFORM("spring.main.web-application-type=servlet"),
+    /** Tomcat handing each request to a virtual thread. */
+    VIRTUAL("spring.main.web-application-type=servlet", "spring.threads.virtual.enabled=true"),
+    /** Netty event loops with the WebFlux endpoints. */
+    REACTIVE("spring.main.web-application-type=reactive");
+
+    private final String[] properties;
+
+    ServerMode(String... properties) {
+        this.properties = properties;
+    }
+
+    public String[] properties() {
+        return properties.clone();
+    }
+}
+
+// LoadTestApplication.java
+package com.example.demo.loadtest;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication(scanBasePackages = "com.example.demo")
+public class LoadTestApplication {
+}
+
+// LoadMix.java
+package com.example.demo.loadtest;
+
+import com.example.demo.core.DateConstraints;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+/**
+ * Share of valid (only {@code from}), range ({@code from} and {@code to}) and invalid requests.
+ * Valid and range requests respect the endpoint's constraints: {@code to} is never before
+ * {@code from}, and {@code from} to {@code to}, or to the defaulted end of today, spans at most
+ * {@link DateConstraints#MAX_RANGE_DAYS} days.
+ */
+final class LoadMix {
+
+    enum Category {
+        VALID, RANGE, INVALID
+    }
+
+    // Power of two so workers can cycle with a mask
+    private static final int REQUESTS_PER_WORKER = 1024;
+
+    private final int validPercent;
+    private final int rangePercent;
+
+    private LoadMix(int validPercent, int rangePercent) {
+        this.validPercent = validPercent;
+        this.rangePercent = rangePercent;
+    }
+
+    static LoadMix parse(String spec) {
+        String[] parts = spec.split(",");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("load.mix must be valid,range,invalid percentages");
+        }
+        int valid = Integer.parseInt(parts[0].trim());
+        int range = Integer.parseInt(parts[1].trim());
+        int invalid = Integer.parseInt(parts[2].trim());
+        if (valid + range + invalid != 100) {
+            throw new IllegalArgumentException("load.mix percentages must add up to 100");
+        }
+        return new LoadMix(valid, range);
+    }
+
+    /**
+     * Pre-built requests for one worker, so building them is not part of the measurement.
+     */
+    Requests requests(URI base, long seed) {
+        Random random = new Random(seed);
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        HttpRequest[] requests = new HttpRequest[REQUESTS_PER_WORKER];
+        Category[] categories = new Category[REQUESTS_PER_WORKER];
+        for (int i = 0; i < requests.length; i++) {
+            int roll = random.nextInt(100);
+            String query;
+            if (roll < validPercent) {
+                // One day short of the limit, so a run that crosses midnight stays within it
+                query = "from=" + format(today.minusDays(random.nextInt(DateConstraints.MAX_RANGE_DAYS - 1)));
+                categories[i] = Category.VALID;
+            } else if (roll < validPercent + rangePercent) {
+                LocalDate from = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(365 * 30));
+                LocalDate to = from.plusDays(random.nextInt(DateConstraints.MAX_RANGE_DAYS));
+                query = "from=" + format(from) + "&to=" + format(to);
+                categories[i] = Category.RANGE;
+            } else {
+                query = "from=2024-13-45";
+                categories[i] = Category.INVALID;
+            }
+            requests[i] = HttpRequest.newBuilder(base.resolve("/date-range?" + query)).GET().build();
+        }
+        return new Requests(requests, categories);
+    }
+
+    private static String format(LocalDate date) {
+        return String.format("%02d-%02d-%04d", date.getMonthValue(), date.getDayOfMonth(), date.getYear());
+    }
+
+    /**
+     * One worker's requests and which part of the mix each belongs to.
+     */
+    static final class Requests {
+        private final HttpRequest[] requests;
+        private final Category[] categories;
+
+        Requests(HttpRequest[] requests, Category[] categories) {
+            this.requests = requests;
+            this.categories = categories;
+        }
+
+        int size() {
+            return requests.length;
+        }
+
+        HttpRequest request(int index) {
+            return requests[index];
+        }
+
+        Category category(int index) {
+            return categories[index];
+        }
+    }
+}
+
+// LatencyHistogram.java
+package com.example.demo.loadtest;
+
+/**
+ * Log-linear histogram of nanosecond latencies: 128 linear sub-buckets per power of two, so
+ * any recorded value is within 1% of its bucket. Recording is an array increment.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 7;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    private final long[] counts = new long[64 * SUB_BUCKETS];
+    private long count;
+
+    void record(long nanos) {
+        counts[index(Math.max(0, nanos))]++;
+        count++;
+    }
+
+    void add(LatencyHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.999
+     */
+    long percentile(double quantile) {
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank && counts[i] > 0) {
+                return value(i);
+            }
+        }
+        return 0;
+    }
+
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return ((shift + 1) << SUB_BUCKET_BITS) + (int) ((value >>> shift) - SUB_BUCKETS);
+    }
+
+    // Lower bound of the bucket
+    private static long value(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = (index >>> SUB_BUCKET_BITS) - 1;
+        return (long) ((index & (SUB_BUCKETS - 1)) + SUB_BUCKETS) << shift;
+    }
+}
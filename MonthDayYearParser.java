@@ -0,0 +1,129 @@
+package com.example.demo.core;
+
+/**
+ * Allocation-free parser for {@code MM-dd-yyyy} dates.
+ * <p>
+ * Accepts exactly what {@code DateTimeFormatter.ofPattern("MM-dd-yyyy")} accepts with its
+ * default SMART resolver: a two digit month (01-12), a two digit day (01-31, clamped to the
+ * length of the month, so {@code 02-30-2023} resolves to {@code 2023-02-28}), and either a
+ * four digit year or a {@code '+'} followed by more than four digits. Years run from 1 to
+ * 999,999,999 and no trailing text is allowed.
+ */
+public final class MonthDayYearParser {
+
+    /** Returned instead of an epoch day when the input cannot be parsed. */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int MAX_YEAR = 999_999_999;
+    private static final int MAX_EXTENDED_YEAR_DIGITS = 19;
+    private static final long DAYS_0000_TO_1970 = 719_528L;
+
+    private MonthDayYearParser() {
+    }
+
+    public static long parseEpochDay(CharSequence text) {
+        if (text == null) {
+            return INVALID;
+        }
+        return parseEpochDay(text, 0, text.length());
+    }
+
+    /**
+     * Parses {@code text[start, end)} and returns the epoch day, or {@link #INVALID}.
+     */
+    public static long parseEpochDay(CharSequence text, int start, int end) {
+        if (end - start < 10
+                || text.charAt(start + 2) != '-'
+                || text.charAt(start + 5) != '-') {
+            return INVALID;
+        }
+        int month = twoDigits(text, start);
+        int day = twoDigits(text, start + 3);
+        if (month < 1 || month > 12 || day < 1 || day > 31) {
+            return INVALID;
+        }
+
+        int pos = start + 6;
+        long year;
+        if (end - pos == 4) {
+            int d0 = digit(text.charAt(pos));
+            int d1 = digit(text.charAt(pos + 1));
+            int d2 = digit(text.charAt(pos + 2));
+            int d3 = digit(text.charAt(pos + 3));
+            if ((d0 | d1 | d2 | d3) < 0) {
+                return INVALID;
+            }
+            year = d0 * 1000 + d1 * 100 + d2 * 10 + d3;
+        } else {
+            // The formatter only takes more than four year digits behind an explicit '+'
+            int digits = end - pos - 1;
+            if (text.charAt(pos) != '+' || digits <= 4 || digits > MAX_EXTENDED_YEAR_DIGITS) {
+                return INVALID;
+            }
+            year = 0;
+            for (int i = pos + 1; i < end; i++) {
+                int d = digit(text.charAt(i));
+                if (d < 0) {
+                    return INVALID;
+                }
+                if (year <= MAX_YEAR) {
+                    year = year * 10 + d;
+                }
+            }
+        }
+        if (year < 1 || year > MAX_YEAR) {
+            return INVALID;
+        }
+
+        boolean leap = isLeap(year);
+        day = Math.min(day, lengthOfMonth(month, leap));
+        return toEpochDay(year, month, day, leap);
+    }
+
+    static boolean isLeap(long year) {
+        return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+    }
+
+    static int lengthOfMonth(int month, boolean leap) {
+        switch (month) {
+            case 2:
+                return leap ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    // Same arithmetic as LocalDate.toEpochDay, restricted to positive years
+    static long toEpochDay(long year, int month, int day, boolean leap) {
+        long total = 365 * year;
+        total += (year + 3) / 4 - (year + 99) / 100 + (year + 399) / 400;
+        total += (367 * month - 362) / 12;
+        total += day - 1;
+        if (month > 2) {
+            total--;
+            if (!leap) {
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    private static int twoDigits(CharSequence text, int pos) {
+        int tens = digit(text.charAt(pos));
+        int ones = digit(text.charAt(pos + 1));
+        if ((tens | ones) < 0) {
+            return -1;
+        }
+        return tens * 10 + ones;
+    }
+
+    private static int digit(char c) {
+        int d = c - '0';
+        return d >= 0 && d <= 9 ? d : -1;
+    }
+}
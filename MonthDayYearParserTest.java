@@ -0,0 +1,75 @@
+package com.example.demo.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * {@link MonthDayYearParser} has to accept and resolve exactly what the
+ * {@code MM-dd-yyyy} formatter with its default SMART resolver did before it.
+ */
+class MonthDayYearParserTest {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+
+    private static final String[] YEARS = {
+            "0000", "0001", "0004", "1900", "1970", "1999", "2000", "2023", "2024", "2100", "9999",
+            "+10000", "+99999", "+999999999", "+1000000000", "+0002024", "+00000", "+2024", "10000",
+            "-2024", "-0001", "202", "20245", "2o24", " 2024", "2024 ", "+", "++10000", "+1000000000000000000"};
+
+    @Test
+    void matchesFormatterForEveryMonthAndDay() {
+        for (String year : YEARS) {
+            for (int month = 0; month <= 13; month++) {
+                for (int day = 0; day <= 32; day++) {
+                    assertSame(String.format("%02d-%02d-%s", month, day, year));
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesFormatterOnEdgeInputs() {
+        List<String> inputs = new ArrayList<>(List.of(
+                // Clamped to the length of the month
+                "02-29-2024", "02-29-2023", "02-30-2024", "02-31-2023", "02-29-1900", "02-29-2000",
+                "04-31-2024", "06-31-2024", "09-31-2024", "11-31-2024", "12-31-2024", "01-31-2024",
+                // Out of range
+                "00-10-2024", "13-01-2024", "01-00-2024", "01-32-2024", "01-01-0000",
+                // Extended years
+                "12-31-+999999999", "01-01-+1000000000", "02-29-+10000", "02-29-+10400",
+                // Overlong, short and malformed fields
+                "001-01-2024", "01-001-2024", "1-01-2024", "01-1-2024", "01-01-24", "01-01-02024",
+                "01/01/2024", "01-01/2024", "01.01.2024", "0a-01-2024", "01-0b-2024", "-1-01-2024",
+                "+1-01-2024", "01-+1-2024", "01-01-2024T", "01-01-2024\n", " 01-01-2024", "",
+                "01-01-", "01-01", "2024-01-01", "\uFF11\uFF12-\uFF13\uFF11-\uFF12\uFF10\uFF12\uFF14"));
+        for (String input : inputs) {
+            assertSame(input);
+        }
+    }
+
+    @Test
+    void parsesSubSequences() {
+        String text = "x,02-30-2024,y";
+        assertEquals(expected("02-30-2024"), MonthDayYearParser.parseEpochDay(text, 2, 12));
+        assertEquals(MonthDayYearParser.INVALID, MonthDayYearParser.parseEpochDay(text, 2, 13));
+    }
+
+    private static void assertSame(String input) {
+        assertEquals(expected(input), MonthDayYearParser.parseEpochDay(input), input);
+    }
+
+    private static long expected(String input) {
+        try {
+            return LocalDate.parse(input, FORMATTER).toEpochDay();
+        } catch (DateTimeParseException e) {
+            return MonthDayYearParser.INVALID;
+        }
+    }
+}
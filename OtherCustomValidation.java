@@ -10,12 +10,25 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 public @interface CustomDateRange {
     String message() default "Invalid date format. Use MM-dd-yyyy";
+    /** Zone id the day boundaries are taken in, e.g. "Europe/Berlin"; empty means UTC. */
+    String zone() default "";
+    /** Earliest allowed day as {@code MM-dd-yyyy}; empty means no lower bound. */
+    String earliest() default "";
+    /** Latest allowed day as {@code MM-dd-yyyy}; empty means no upper bound. */
+    String latest() default "";
+    /** Longest allowed range in days, both ends included; 0 means no limit. */
+    int maxDays() default 0;
+    /** Reject ranges whose {@code to} is before their {@code from}; off by default, as before it existed. */
+    boolean ordered() default false;
 }
 
 // DateRangeModel.java
 package com.example.demo.model;
 
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class DateRangeModel {
     private final OffsetDateTime from;
@@ -33,43 +46,271 @@ public class DateRangeModel {
     public OffsetDateTime getTo() {
         return to;
     }
+
+    /**
+     * Lazily splits this range into aligned calendar buckets; use {@code .parallel()} to fan out.
+     * See {@link DateRangePartitioner}.
+     */
+    public Stream<DateRangeModel> partition(PartitionUnit unit) {
+        return StreamSupport.stream(DateRangePartitioner.spliterator(this, unit), false);
+    }
+
+    /**
+     * Lazily splits this range into fixed-length buckets aligned to the epoch.
+     */
+    public Stream<DateRangeModel> partition(Duration bucket) {
+        return StreamSupport.stream(DateRangePartitioner.spliterator(this, bucket), false);
+    }
+}
+
+// DateRangeList.java
+package com.example.demo.model;
+
+import com.example.demo.core.DayBoundaryTable;
+
+/**
+ * Ranges parsed from one request parameter, stored as pairs of epoch days in a single
+ * {@code long[]} instead of one {@link DateRangeModel} per range.
+ */
+public final class DateRangeList {
+
+    // from0, to0, from1, to1, ...
+    private final long[] epochDays;
+    private final int size;
+
+    public DateRangeList(long[] epochDays, int size) {
+        this.epochDays = epochDays;
+        this.size = size;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getFromEpochDay(int index) {
+        return epochDays[2 * checkIndex(index)];
+    }
+
+    public long getToEpochDay(int index) {
+        return epochDays[2 * checkIndex(index) + 1];
+    }
+
+    /**
+     * Start of the first day to end of the last day in UTC, same as {@code CustomDateRangeConverter}.
+     */
+    public DateRangeModel get(int index) {
+        return new DateRangeModel(DayBoundaryTable.START_OF_DAY.get(getFromEpochDay(index)),
+                DayBoundaryTable.END_OF_DAY.get(getToEpochDay(index)));
+    }
+
+    private int checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return index;
+    }
 }
 
 // CustomDateRangeConverter.java
 package com.example.demo.converter;
 
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.core.ZonedDayBoundaries;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
 import com.example.demo.model.DateRangeModel;
-import org.springframework.core.convert.converter.Converter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
-import java.time.OffsetDateTime;
+import java.time.ZoneId;
 import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * A generic converter so the target's {@link CustomDateRange} can be read: its zone, and the
+ * bounds, ordering and span it puts on the range. Without the annotation, ranges are in UTC and
+ * unconstrained as before. Parsing is {@link DateEngine#parseRange}. Conversions are timed under
+ * the {@link DateConversionMetrics#CONVERTER} endpoint, parameter {@code range}.
+ */
 @Component
-public class CustomDateRangeConverter implements Converter<String, DateRangeModel> {
+public class CustomDateRangeConverter implements GenericConverter {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+    private static final Set<ConvertiblePair> TYPES =
+            Collections.singleton(new ConvertiblePair(String.class, DateRangeModel.class));
+
+    private final ConcurrentMap<CustomDateRange, DateConstraints> constraints = new ConcurrentHashMap<>();
+    private final DateConversionMetrics.Recorder recorder;
+
+    public CustomDateRangeConverter() {
+        this.recorder = DateConversionMetrics.Recorder.NONE;
+    }
+
+    @Autowired
+    public CustomDateRangeConverter(DateConversionMetrics metrics) {
+        this.recorder = metrics.recorder(DateConversionMetrics.CONVERTER, "range");
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return TYPES;
+    }
 
     @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        CustomDateRange annotation = targetType.getAnnotation(CustomDateRange.class);
+        if (annotation == null) {
+            return convert((String) source, ZoneOffset.UTC);
+        }
+        return convert((String) source, ZonedDayBoundaries.zone(annotation.zone()), constraints(annotation));
+    }
+
+    /**
+     * The constraints an annotation declares, worked out once per distinct annotation. Handler
+     * parameters are checked at startup, see {@code DateConstraintsVerifier}.
+     *
+     * @throws IllegalStateException if the annotation's bounds or span are invalid, a
+     *                               configuration error rather than a bad request
+     */
+    public DateConstraints constraints(CustomDateRange annotation) {
+        DateConstraints result = constraints.get(annotation);
+        if (result == null) {
+            result = constraints.computeIfAbsent(annotation, CustomDateRangeConverter::createConstraints);
+        }
+        return result;
+    }
+
+    private static DateConstraints createConstraints(CustomDateRange annotation) {
+        try {
+            return DateConstraints.of(
+                    annotation.earliest(), annotation.latest(), annotation.maxDays(), annotation.ordered());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + annotation + ": " + e.getMessage(), e);
+        }
+    }
+
     public DateRangeModel convert(String source) {
-        String[] dates = source.split(",");
-        if (dates.length != 2) {
-            throw new IllegalArgumentException("Invalid date range format");
+        return convert(source, ZoneOffset.UTC);
+    }
+
+    public DateRangeModel convert(String source, ZoneId zone) {
+        return convert(source, zone, DateConstraints.NONE);
+    }
+
+    public DateRangeModel convert(String source, ZoneId zone, DateConstraints constraints) {
+        long start = System.nanoTime();
+        try {
+            DateRangeModel range = DateEngine.parseRange(source, zone, constraints);
+            recorder.record(ConversionOutcome.OK, ConversionPath.PARSED, System.nanoTime() - start);
+            return range;
+        } catch (DateRejectedException e) {
+            recorder.record(ConversionOutcome.of(e.getReason()), ConversionPath.NONE, System.nanoTime() - start);
+            throw e;
         }
+    }
 
-        OffsetDateTime from = LocalDate.parse(dates[0], DATE_FORMATTER)
-                .atStartOfDay()
-                .atOffset(ZoneOffset.UTC);
+    /**
+     * A range from separately supplied {@code from} and {@code to} dates, checked and timed like
+     * a {@code from,to} value.
+     */
+    public DateRangeModel convert(String from, String to, ZoneId zone, DateConstraints constraints) {
+        long start = System.nanoTime();
+        try {
+            DateRangeModel range = DateEngine.parseRange(from, to, zone, constraints);
+            recorder.record(ConversionOutcome.OK, ConversionPath.PARSED, System.nanoTime() - start);
+            return range;
+        } catch (DateRejectedException e) {
+            recorder.record(ConversionOutcome.of(e.getReason()), ConversionPath.NONE, System.nanoTime() - start);
+            throw e;
+        }
+    }
+}
+
+// CustomDateRangeListConverter.java
+package com.example.demo.converter;
+
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
+import com.example.demo.model.DateRangeList;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Converts {@code from,to;from,to;...}, see {@link DateEngine#parseRanges}. A
+ * {@link CustomDateRange} on the target puts its bounds, ordering and span on every range of
+ * the list; its zone does not apply, lists are UTC. Conversions are timed under the
+ * {@link DateConversionMetrics#CONVERTER} endpoint, parameter {@code ranges}.
+ */
+@Component
+public class CustomDateRangeListConverter implements GenericConverter {
 
-        OffsetDateTime to = LocalDate.parse(dates[1], DATE_FORMATTER)
-                .plusDays(1)
-                .atStartOfDay()
-                .minusNanos(1)
-                .atOffset(ZoneOffset.UTC);
+    private static final Set<ConvertiblePair> TYPES =
+            Collections.singleton(new ConvertiblePair(String.class, DateRangeList.class));
+
+    private final CustomDateRangeConverter rangeConverter;
+    private final DateConversionMetrics.Recorder recorder;
+
+    public CustomDateRangeListConverter() {
+        this.rangeConverter = new CustomDateRangeConverter();
+        this.recorder = DateConversionMetrics.Recorder.NONE;
+    }
+
+    @Autowired
+    public CustomDateRangeListConverter(CustomDateRangeConverter rangeConverter, DateConversionMetrics metrics) {
+        this.rangeConverter = rangeConverter;
+        this.recorder = metrics.recorder(DateConversionMetrics.CONVERTER, "ranges");
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return TYPES;
+    }
+
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (source == null) {
+            return null;
+        }
+        CustomDateRange annotation = targetType.getAnnotation(CustomDateRange.class);
+        return convert((String) source,
+                annotation == null ? DateConstraints.NONE : rangeConverter.constraints(annotation));
+    }
 
-        return new DateRangeModel(from, to);
+    public DateRangeList convert(String source) {
+        return convert(source, DateConstraints.NONE);
+    }
+
+    public DateRangeList convert(String source, DateConstraints constraints) {
+        long start = System.nanoTime();
+        try {
+            DateRangeList ranges = DateEngine.parseRanges(source, constraints);
+            recorder.record(ConversionOutcome.OK, ConversionPath.PARSED, System.nanoTime() - start);
+            return ranges;
+        } catch (DateRejectedException e) {
+            recorder.record(ConversionOutcome.of(e.getReason()), ConversionPath.NONE, System.nanoTime() - start);
+            throw e;
+        }
     }
 }
 
@@ -77,33 +318,97 @@ public class CustomDateRangeConverter implements Converter<String, DateRangeMode
 package com.example.demo.validator;
 
 import com.example.demo.annotation.CustomDateRange;
-import javax.validation.ConstraintValidator;
-import javax.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class CustomDateRangeValidator implements ConstraintValidator<CustomDateRange, String> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+    // Injected when Spring's validator factory creates the instance
+    @Autowired(required = false)
+    private DateConversionMetrics metrics;
+
+    private DateConstraints constraints = DateConstraints.NONE;
+    private DateConversionMetrics.Recorder recorder = DateConversionMetrics.Recorder.NONE;
+
+    @Override
+    public void initialize(CustomDateRange constraintAnnotation) {
+        this.constraints = DateConstraints.of(constraintAnnotation.earliest(), constraintAnnotation.latest(),
+                constraintAnnotation.maxDays(), constraintAnnotation.ordered());
+        if (metrics != null) {
+            this.recorder = metrics.recorder(DateConversionMetrics.VALIDATOR, "range");
+        }
+    }
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
-        if (value == null || value.isEmpty()) {
-            return false;
+        long start = System.nanoTime();
+        ConversionOutcome outcome;
+        if (!DateEngine.isValidRange(value)) {
+            outcome = ConversionOutcome.INVALID_RANGE;
+        } else if (!DateEngine.isValidRange(value, constraints)) {
+            outcome = ConversionOutcome.CONSTRAINT_VIOLATION;
+        } else {
+            outcome = ConversionOutcome.OK;
         }
+        recorder.record(outcome, outcome == ConversionOutcome.OK ? ConversionPath.PARSED : ConversionPath.NONE,
+                System.nanoTime() - start);
+        return outcome == ConversionOutcome.OK;
+    }
+}
+
+// CustomDateRangeListValidator.java
+package com.example.demo.validator;
+
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
+import com.example.demo.model.DateRangeList;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Checks every range of a converted {@link DateRangeList} against the annotation's bounds,
+ * ordering and span, the same rules {@link CustomDateRangeValidator} applies to one range.
+ */
+public class CustomDateRangeListValidator implements ConstraintValidator<CustomDateRange, DateRangeList> {
+
+    // Injected when Spring's validator factory creates the instance
+    @Autowired(required = false)
+    private DateConversionMetrics metrics;
+
+    private DateConstraints constraints = DateConstraints.NONE;
+    private DateConversionMetrics.Recorder recorder = DateConversionMetrics.Recorder.NONE;
 
-        String[] dates = value.split(",");
-        if (dates.length != 2) {
-            return false;
+    @Override
+    public void initialize(CustomDateRange constraintAnnotation) {
+        this.constraints = DateConstraints.of(constraintAnnotation.earliest(), constraintAnnotation.latest(),
+                constraintAnnotation.maxDays(), constraintAnnotation.ordered());
+        if (metrics != null) {
+            this.recorder = metrics.recorder(DateConversionMetrics.VALIDATOR, "ranges");
         }
+    }
 
-        try {
-            DATE_FORMATTER.parse(dates[0]);
-            DATE_FORMATTER.parse(dates[1]);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+    @Override
+    public boolean isValid(DateRangeList value, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
+        ConversionOutcome outcome = value == null ? ConversionOutcome.INVALID_RANGE : ConversionOutcome.OK;
+        for (int i = 0; outcome == ConversionOutcome.OK && i < value.size(); i++) {
+            if (constraints.violation(value.getFromEpochDay(i), value.getToEpochDay(i)) != null) {
+                outcome = ConversionOutcome.CONSTRAINT_VIOLATION;
+            }
         }
+        recorder.record(outcome, outcome == ConversionOutcome.OK ? ConversionPath.PARSED : ConversionPath.NONE,
+                System.nanoTime() - start);
+        return outcome == ConversionOutcome.OK;
     }
 }
 
@@ -111,28 +416,39 @@ public class CustomDateRangeValidator implements ConstraintValidator<CustomDateR
 package com.example.demo.controller;
 
 import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.http.DateRangeBinaryCodec;
+import com.example.demo.model.DateRangeList;
 import com.example.demo.model.DateRangeModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DateRangeController {
 
     @GetMapping("/date-range")
-    public ResponseEntity<String> getDateRange(
-            @RequestParam @CustomDateRange DateRangeModel dateRange) {
+    public ResponseEntity<DateRangeModel> getDateRange(
+            @CustomDateRange(maxDays = DateConstraints.MAX_RANGE_DAYS, ordered = true) DateRangeModel dateRange) {
 
-        return ResponseEntity.ok(String.format("From: %s, To: %s", 
-                dateRange.getFrom(), dateRange.getTo()));
+        return ResponseEntity.ok(dateRange);
     }
 
     @GetMapping("/another-endpoint")
     public ResponseEntity<String> anotherEndpoint(
-            @RequestParam @CustomDateRange DateRangeModel dateRange) {
+            @CustomDateRange(maxDays = DateConstraints.MAX_RANGE_DAYS, ordered = true) DateRangeModel dateRange) {
 
         // Use dateRange.getFrom() and dateRange.getTo() as needed
         return ResponseEntity.ok("Another endpoint using the same date range conversion");
     }
+
+    // A list has no JSON form, so it is never handed to Jackson
+    @GetMapping(path = "/date-ranges", produces = {MediaType.TEXT_PLAIN_VALUE, DateRangeBinaryCodec.MEDIA_TYPE})
+    public ResponseEntity<DateRangeList> getDateRanges(
+            @CustomDateRange(maxDays = DateConstraints.MAX_RANGE_DAYS, ordered = true) DateRangeList dateRanges) {
+        return ResponseEntity.ok(dateRanges);
+    }
 }
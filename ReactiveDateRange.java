@@ -0,0 +1,172 @@
+// ReactiveCustomDateArgumentResolver.java
+package com.example.demo.reactive;
+
+import com.example.demo.annotation.CustomDate;
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.converter.CustomDateConverter;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.converter.CustomDateRangeListConverter;
+import com.example.demo.metrics.DateConversionMetrics;
+import com.example.demo.resolver.ParameterPlan;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.BindingContext;
+import org.springframework.web.reactive.result.method.HandlerMethodArgumentResolver;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * WebFlux counterpart of {@code CustomDateArgumentResolver} for {@link CustomDate} and
+ * {@link CustomDateRange} parameters.
+ * <p>
+ * Parameters go through the same {@link ParameterPlan} as on the servlet stack, so they are
+ * converted, checked and recorded in {@code date.conversion} alike.
+ * Conversion is pure CPU work on the query string, so it runs inline on the event loop and the
+ * result is wrapped in an already-completed {@link Mono}; nothing blocks or hops threads.
+ * Parameters resolved here must not also carry {@code @RequestParam}, which WebFlux would
+ * resolve first.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCustomDateArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final CustomDateConverter customDateConverter;
+    private final CustomDateRangeConverter rangeConverter;
+    private final CustomDateRangeListConverter rangeListConverter;
+    private final DateConversionMetrics metrics;
+    private final ConcurrentMap<MethodParameter, ParameterPlan> plans = new ConcurrentHashMap<>();
+
+    public ReactiveCustomDateArgumentResolver(CustomDateConverter customDateConverter,
+                                              CustomDateRangeConverter rangeConverter,
+                                              CustomDateRangeListConverter rangeListConverter,
+                                              DateConversionMetrics metrics) {
+        this.customDateConverter = customDateConverter;
+        this.rangeConverter = rangeConverter;
+        this.rangeListConverter = rangeListConverter;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return ParameterPlan.supports(parameter);
+    }
+
+    @Override
+    public Mono<Object> resolveArgument(MethodParameter parameter, BindingContext bindingContext,
+                                        ServerWebExchange exchange) {
+        ParameterPlan plan = plans.get(parameter);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(parameter,
+                    p -> ParameterPlan.of(p, customDateConverter, rangeConverter, rangeListConverter, metrics));
+        }
+        MultiValueMap<String, String> queryParams = exchange.getRequest().getQueryParams();
+        try {
+            return Mono.justOrEmpty(plan.resolve(queryParams.getFirst(plan.getParameterName()), queryParams::getFirst));
+        } catch (RuntimeException e) {
+            return Mono.error(e);
+        }
+    }
+}
+
+// ReactiveWebConfig.java
+package com.example.demo.reactive;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import org.springframework.web.reactive.result.method.annotation.ArgumentResolverConfigurer;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig implements WebFluxConfigurer {
+
+    private final ReactiveCustomDateArgumentResolver customDateArgumentResolver;
+
+    public ReactiveWebConfig(ReactiveCustomDateArgumentResolver customDateArgumentResolver) {
+        this.customDateArgumentResolver = customDateArgumentResolver;
+    }
+
+    @Override
+    public void configureArgumentResolvers(ArgumentResolverConfigurer configurer) {
+        configurer.addCustomResolver(customDateArgumentResolver);
+    }
+}
+
+// ReactiveConversionTimingFilter.java
+package com.example.demo.reactive;
+
+import com.example.demo.metrics.ConversionTiming;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * WebFlux counterpart of {@code ConversionTimingInterceptor}: clears the per-thread conversion
+ * time and turns recording off for the application's own warm-up requests. Parameters are
+ * resolved inline on the thread that runs the filter chain, see
+ * {@link ReactiveCustomDateArgumentResolver}, so the reset applies to them.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveConversionTimingFilter implements WebFilter {
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String warmup = exchange.getRequest().getHeaders().getFirst(ConversionTiming.WARMUP_HEADER);
+        ConversionTiming.reset(!ConversionTiming.WARMUP_TOKEN.equals(warmup));
+        return chain.filter(exchange);
+    }
+}
+
+// ReactiveDateRangeController.java
+package com.example.demo.reactive;
+
+import com.example.demo.annotation.CustomDate;
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.model.DateRangeModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveDateRangeController {
+
+    @GetMapping("/date-range")
+    public Mono<ResponseEntity<String>> getDateRange(
+            @CustomDate OffsetDateTime from,
+            @CustomDate(optional = true, endOfDay = true, after = "from",
+                    maxDays = DateConstraints.MAX_RANGE_DAYS) OffsetDateTime to) {
+
+        return Mono.just(ResponseEntity.ok("From: " + from + ", To: " + to));
+    }
+
+    @GetMapping("/another-endpoint")
+    public Mono<ResponseEntity<String>> anotherEndpoint(
+            @CustomDate OffsetDateTime from,
+            @CustomDate(optional = true, endOfDay = true, after = "from",
+                    maxDays = DateConstraints.MAX_RANGE_DAYS) OffsetDateTime to) {
+
+        return Mono.just(ResponseEntity.ok("Another endpoint using the same date conversion"));
+    }
+
+    @GetMapping("/date-range/range")
+    public Mono<ResponseEntity<String>> getDateRangeModel(
+            @CustomDateRange(maxDays = DateConstraints.MAX_RANGE_DAYS, ordered = true) DateRangeModel dateRange) {
+
+        return Mono.just(ResponseEntity.ok("From: " + dateRange.getFrom() + ", To: " + dateRange.getTo()));
+    }
+}
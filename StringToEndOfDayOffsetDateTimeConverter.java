@@ -1,27 +1,25 @@
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.core.DayBoundaryTable;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 
 @Component
 public class StringToEndOfDayOffsetDateTimeConverter implements Converter<String, OffsetDateTime> {
 
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+    private static final DayBoundaryTable END_OF_DAY = new DayBoundaryTable(LocalTime.of(23, 59, 59));
 
     @Override
     public OffsetDateTime convert(String source) {
-        try {
-            // Parse the string using the "MM-dd-yyyy" pattern
-            LocalDate date = LocalDate.parse(source, FORMATTER);
-            // Convert to OffsetDateTime at the end of the day (23:59:59) with UTC timezone
-            return OffsetDateTime.of(date, LocalTime.of(23, 59, 59), ZoneOffset.UTC);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException("Invalid date format. Please use MM-dd-yyyy.");
+        // Parse the string using the "MM-dd-yyyy" pattern
+        long epochDay = DateEngine.memoizedEpochDay(source, DateEngine.DEFAULT_FORMAT_MASK);
+        if (epochDay == DateEngine.INVALID) {
+            throw DateRejectedException.of(DateRejectedException.Reason.INVALID_DATE);
         }
+        // Convert to OffsetDateTime at the end of the day (23:59:59) with UTC timezone
+        return END_OF_DAY.get(epochDay);
     }
 }
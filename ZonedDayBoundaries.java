@@ -0,0 +1,87 @@
+package com.example.demo.core;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Start and end of a day in a given zone, cached per (zone, epoch day).
+ * <p>
+ * Working out a boundary means a {@code ZoneRules} transition search, and DST days are 23 or 25
+ * hours long, so the end of day is "start of the next day minus one nanosecond" rather than a
+ * fixed 23:59:59.999999999. Each zone gets a direct-mapped cache of
+ * {@code datetimeconverter.zone-cache.slots} entries (a power of two, 4096 by default): a hit is
+ * one array read and a colliding day simply replaces the old one, so memory stays bounded. UTC
+ * is served from {@link DayBoundaryTable}.
+ */
+public final class ZonedDayBoundaries {
+
+    private static final int SLOTS = Integer.highestOneBit(Math.max(1, Integer.getInteger("datetimeconverter.zone-cache.slots", 4096)));
+
+    private static final ConcurrentMap<ZoneId, ZonedDayBoundaries> BY_ZONE = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
+
+    private final ZoneId zone;
+    private final boolean utc;
+    // Racy reads are fine: entries are immutable and a miss just recomputes
+    private final Entry[] slots;
+
+    private ZonedDayBoundaries(ZoneId zone) {
+        this.zone = zone;
+        this.utc = zone.normalized().equals(ZoneOffset.UTC);
+        this.slots = utc ? null : new Entry[SLOTS];
+    }
+
+    public static ZonedDayBoundaries forZone(ZoneId zone) {
+        return BY_ZONE.computeIfAbsent(zone, ZonedDayBoundaries::new);
+    }
+
+    /**
+     * Resolves an annotation zone id once; an empty id means UTC.
+     */
+    public static ZoneId zone(String id) {
+        if (id == null || id.isEmpty()) {
+            return ZoneOffset.UTC;
+        }
+        return ZONE_IDS.computeIfAbsent(id, ZoneId::of);
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public OffsetDateTime startOfDay(long epochDay) {
+        return utc ? DayBoundaryTable.START_OF_DAY.get(epochDay) : entry(epochDay).start;
+    }
+
+    public OffsetDateTime endOfDay(long epochDay) {
+        return utc ? DayBoundaryTable.END_OF_DAY.get(epochDay) : entry(epochDay).end;
+    }
+
+    private Entry entry(long epochDay) {
+        int slot = (int) epochDay & (SLOTS - 1);
+        Entry entry = slots[slot];
+        if (entry == null || entry.epochDay != epochDay) {
+            entry = new Entry(epochDay,
+                    LocalDate.ofEpochDay(epochDay).atStartOfDay(zone).toOffsetDateTime(),
+                    LocalDate.ofEpochDay(epochDay + 1).atStartOfDay(zone).minusNanos(1).toOffsetDateTime());
+            slots[slot] = entry;
+        }
+        return entry;
+    }
+
+    private static final class Entry {
+        final long epochDay;
+        final OffsetDateTime start;
+        final OffsetDateTime end;
+
+        Entry(long epochDay, OffsetDateTime start, OffsetDateTime end) {
+            this.epochDay = epochDay;
+            this.start = start;
+            this.end = end;
+        }
+    }
+}
@@ -16,27 +16,21 @@ public @interface CustomDate {
 // CustomDateConverter.java
 package com.example.demo.converter;
 
+import com.example.demo.core.DateEngine;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.stereotype.Component;
 
-import java.time.LocalDate;
 import java.time.OffsetDateTime;
-import java.time.ZoneOffset;
-import java.time.format.DateTimeFormatter;
 
 @Component
 public class CustomDateConverter implements Converter<String, OffsetDateTime> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
-
     @Override
     public OffsetDateTime convert(String source) {
         if (source == null || source.isEmpty()) {
             return null;
         }
-        return LocalDate.parse(source, DATE_FORMATTER)
-                .atStartOfDay()
-                .atOffset(ZoneOffset.UTC);
+        return DateEngine.parseDate(source, false);
     }
 }
 
@@ -44,14 +38,12 @@ public class CustomDateConverter implements Converter<String, OffsetDateTime> {
 package com.example.demo.validator;
 
 import com.example.demo.annotation.CustomDate;
-import javax.validation.ConstraintValidator;
-import javax.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import com.example.demo.core.DateEngine;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
 
 public class CustomDateValidator implements ConstraintValidator<CustomDate, String> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
     private boolean optional;
 
     @Override
@@ -67,12 +59,7 @@ public class CustomDateValidator implements ConstraintValidator<CustomDate, Stri
         if (!optional && (value == null || value.isEmpty())) {
             return false;
         }
-        try {
-            DATE_FORMATTER.parse(value);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
-        }
+        return DateEngine.isValidDate(value);
     }
 }
 
@@ -80,6 +67,8 @@ public class CustomDateValidator implements ConstraintValidator<CustomDate, Stri
 package com.example.demo.controller;
 
 import com.example.demo.annotation.CustomDate;
+import com.example.demo.model.DateRangeModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -89,10 +78,11 @@ import org.springframework.web.bind.annotation.RestController;
 import java.time.OffsetDateTime;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DateRangeController {
 
     @GetMapping("/date-range")
-    public ResponseEntity<String> getDateRange(
+    public ResponseEntity<DateRangeModel> getDateRange(
             @RequestParam @CustomDate OffsetDateTime from,
             @RequestParam(required = false) @CustomDate(optional = true) OffsetDateTime to) {
 
@@ -103,7 +93,7 @@ public class DateRangeController {
         // Ensure 'to' is at the end of the day
         to = to.plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0).minusNanos(1);
 
-        return ResponseEntity.ok(String.format("From: %s, To: %s", from, to));
+        return ResponseEntity.ok(new DateRangeModel(from, to));
     }
 
     @GetMapping("/another-endpoint")
@@ -1,36 +1,57 @@
 package com.example.demo.validator;
 
 import com.example.demo.annotation.CustomDate;
-
-import javax.validation.ConstraintValidator;
-import javax.validation.ConstraintValidatorContext;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateFormat;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import org.springframework.beans.factory.annotation.Autowired;
 
 public class CustomDateValidator implements ConstraintValidator<CustomDate, String> {
 
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
+    // Injected when Spring's validator factory creates the instance
+    @Autowired(required = false)
+    private DateConversionMetrics metrics;
+
     private boolean optional;
+    private int formatMask;
+    private DateConstraints constraints;
+    private DateConversionMetrics.Recorder recorder = DateConversionMetrics.Recorder.NONE;
 
     @Override
     public void initialize(CustomDate constraintAnnotation) {
         this.optional = constraintAnnotation.optional();
+        this.formatMask = DateFormat.mask(constraintAnnotation.formats());
+        // Only the bounds; span and ordering need the other parameter, see CustomDateConstraints
+        this.constraints = DateConstraints.of(constraintAnnotation.earliest(), constraintAnnotation.latest(), 0, false);
+        if (metrics != null) {
+            this.recorder = metrics.recorder(DateConversionMetrics.VALIDATOR, "date");
+        }
     }
 
     @Override
     public boolean isValid(String value, ConstraintValidatorContext context) {
+        long start = System.nanoTime();
         if (optional && (value == null || value.isEmpty())) {
+            recorder.record(ConversionOutcome.EMPTY_OPTIONAL, ConversionPath.NONE, System.nanoTime() - start);
             return true;
         }
-        if (!optional && (value == null || value.isEmpty())) {
-            return false;
-        }
-        try {
-            DATE_FORMATTER.parse(value);
-            return true;
-        } catch (DateTimeParseException e) {
-            return false;
+        ConversionOutcome outcome;
+        if (value == null || value.isEmpty() || !DateEngine.isValidDate(value, formatMask)) {
+            outcome = ConversionOutcome.INVALID_FORMAT;
+        } else if (!DateEngine.isValidDate(value, formatMask, constraints)) {
+            outcome = ConversionOutcome.CONSTRAINT_VIOLATION;
+        } else {
+            outcome = ConversionOutcome.OK;
         }
+        recorder.record(outcome, outcome == ConversionOutcome.OK ? ConversionPath.PARSED : ConversionPath.NONE,
+                System.nanoTime() - start);
+        return outcome == ConversionOutcome.OK;
     }
 }
 
@@ -38,89 +59,558 @@ public class CustomDateValidator implements ConstraintValidator<CustomDate, Stri
 package com.example.demo.resolver;
 
 import com.example.demo.annotation.CustomDate;
+import com.example.demo.annotation.CustomDateRange;
 import com.example.demo.converter.CustomDateConverter;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.converter.CustomDateRangeListConverter;
+import com.example.demo.metrics.DateConversionMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
 import org.springframework.web.bind.support.WebDataBinderFactory;
 import org.springframework.web.context.request.NativeWebRequest;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
-import java.time.OffsetDateTime;
-
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Resolves {@link CustomDate} and {@link CustomDateRange} parameters through a
+ * {@link ParameterPlan} cached per parameter. A rejected value surfaces as the shared
+ * {@code DateRejectedException} itself, not wrapped in a conversion exception. Spring MVC asks
+ * its own {@code @RequestParam} resolver before any custom one, so parameters resolved here
+ * must not also carry {@code @RequestParam}.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class CustomDateArgumentResolver implements HandlerMethodArgumentResolver {
 
-    @Autowired
-    private CustomDateConverter customDateConverter;
+    private final CustomDateConverter customDateConverter;
+    private final CustomDateRangeConverter rangeConverter;
+    private final CustomDateRangeListConverter rangeListConverter;
+    private final DateConversionMetrics metrics;
+    private final ConcurrentMap<MethodParameter, ParameterPlan> plans = new ConcurrentHashMap<>();
+
+    public CustomDateArgumentResolver(CustomDateConverter customDateConverter, CustomDateRangeConverter rangeConverter,
+                                      CustomDateRangeListConverter rangeListConverter, DateConversionMetrics metrics) {
+        this.customDateConverter = customDateConverter;
+        this.rangeConverter = rangeConverter;
+        this.rangeListConverter = rangeListConverter;
+        this.metrics = metrics;
+    }
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
-        return parameter.hasParameterAnnotation(CustomDate.class);
+        return ParameterPlan.supports(parameter);
     }
 
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
+        ParameterPlan plan = plans.get(parameter);
+        if (plan == null) {
+            plan = plans.computeIfAbsent(parameter,
+                    p -> ParameterPlan.of(p, customDateConverter, rangeConverter, rangeListConverter, metrics));
+        }
+        return plan.resolve(webRequest.getParameter(plan.getParameterName()), webRequest::getParameter);
+    }
+}
+
 
+package com.example.demo.resolver;
+
+import com.example.demo.annotation.CustomDate;
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.converter.CustomDateConverter;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.converter.CustomDateRangeListConverter;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.ZonedDayBoundaries;
+import com.example.demo.metrics.DateConversionMetrics;
+import com.example.demo.model.DateRangeList;
+import org.springframework.core.MethodParameter;
+
+import java.time.ZoneId;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * How one {@link CustomDate} or {@link CustomDateRange} handler parameter is resolved, worked
+ * out when the parameter is first seen. Dates go through a {@link ResolutionPlan}; ranges and
+ * range lists through their converter with the annotation's zone and constraints, so a missing
+ * range is rejected like a malformed one. Shared by the servlet and the WebFlux resolver.
+ */
+public final class ParameterPlan {
+
+    private final String parameterName;
+    private final BiFunction<String, Function<String, String>, Object> resolver;
+
+    private ParameterPlan(String parameterName, BiFunction<String, Function<String, String>, Object> resolver) {
+        this.parameterName = parameterName;
+        this.resolver = resolver;
+    }
+
+    public static boolean supports(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CustomDate.class)
+                || parameter.hasParameterAnnotation(CustomDateRange.class);
+    }
+
+    /**
+     * @throws IllegalStateException if the annotation's constraints are inconsistent
+     */
+    public static ParameterPlan of(MethodParameter parameter, CustomDateConverter customDateConverter,
+                                   CustomDateRangeConverter rangeConverter,
+                                   CustomDateRangeListConverter rangeListConverter, DateConversionMetrics metrics) {
+        if (parameter.hasParameterAnnotation(CustomDate.class)) {
+            ResolutionPlan plan = ResolutionPlan.of(parameter, customDateConverter, metrics);
+            return new ParameterPlan(plan.getParameterName(), plan::resolve);
+        }
+        CustomDateRange customDateRange = parameter.getParameterAnnotation(CustomDateRange.class);
+        DateConstraints constraints = rangeConverter.constraints(customDateRange);
+        if (parameter.getParameterType() == DateRangeList.class) {
+            return new ParameterPlan(parameter.getParameterName(),
+                    (value, parameters) -> rangeListConverter.convert(value, constraints));
+        }
+        ZoneId zone = ZonedDayBoundaries.zone(customDateRange.zone());
+        return new ParameterPlan(parameter.getParameterName(),
+                (value, parameters) -> rangeConverter.convert(value, zone, constraints));
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * @param value      the request parameter, possibly {@code null}
+     * @param parameters request parameter values by name, to read an {@code after} sibling
+     * @throws com.example.demo.core.DateRejectedException if the value is rejected
+     */
+    public Object resolve(String value, Function<String, String> parameters) {
+        return resolver.apply(value, parameters);
+    }
+}
+
+
+package com.example.demo.resolver;
+
+import com.example.demo.annotation.CustomDate;
+import com.example.demo.converter.CustomDateConverter;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateFormat;
+import com.example.demo.core.DateRejectedException;
+import com.example.demo.core.ZonedDayBoundaries;
+import com.example.demo.metrics.ConversionOutcome;
+import com.example.demo.metrics.ConversionPath;
+import com.example.demo.metrics.DateConversionMetrics;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+
+/**
+ * Everything needed to resolve one {@code @CustomDate} handler parameter, worked out from its
+ * annotation the first time the parameter is seen. The servlet and the WebFlux resolver both
+ * reach it through a {@link ParameterPlan} cached per parameter, so they classify, default,
+ * check and record a value the same way.
+ */
+public final class ResolutionPlan {
+
+    private final String parameterName;
+    private final boolean optional;
+    private final int formatMask;
+    private final LongFunction<OffsetDateTime> dayBoundary;
+    private final Supplier<OffsetDateTime> defaultValue;
+    private final ConversionPath emptyPath;
+    private final CustomDateConstraints constraints;
+    private final DateConversionMetrics.Recorder recorder;
+
+    ResolutionPlan(String parameterName, boolean optional, boolean endOfDay, DateFormat[] formats, ZoneId zone,
+                   CustomDateConstraints constraints, CustomDateConverter customDateConverter,
+                   DateConversionMetrics.Recorder recorder) {
+        this.parameterName = parameterName;
+        this.optional = optional;
+        this.formatMask = DateFormat.mask(formats);
+        this.dayBoundary = DateEngine.dayBoundary(endOfDay, zone);
+        this.defaultValue = customDateConverter.defaultValue(optional, endOfDay, zone);
+        this.emptyPath = optional && endOfDay ? ConversionPath.DEFAULTED : ConversionPath.NONE;
+        this.constraints = constraints;
+        this.recorder = recorder;
+    }
+
+    /**
+     * The plan for a {@code @CustomDate} parameter, timed under the first path of its handler's
+     * {@link RequestMapping} (or the method name) and the parameter name.
+     *
+     * @throws IllegalStateException if the annotation's constraints are inconsistent
+     */
+    public static ResolutionPlan of(MethodParameter parameter, CustomDateConverter customDateConverter,
+                                    DateConversionMetrics metrics) {
         CustomDate customDate = parameter.getParameterAnnotation(CustomDate.class);
-        String paramValue = webRequest.getParameter(parameter.getParameterName());
+        String parameterName = parameter.getParameterName();
+        RequestMapping mapping = AnnotatedElementUtils.findMergedAnnotation(parameter.getExecutable(), RequestMapping.class);
+        String endpoint = mapping != null && mapping.path().length > 0 ? mapping.path()[0] : parameter.getExecutable().getName();
+        return new ResolutionPlan(parameterName, customDate.optional(), customDate.endOfDay(), customDate.formats(),
+                ZonedDayBoundaries.zone(customDate.zone()), CustomDateConstraints.of(parameter, customDate),
+                customDateConverter, metrics.recorder(endpoint, parameterName));
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
 
-        return customDateConverter.convert(paramValue, customDate.optional(), customDate.endOfDay());
+    /**
+     * Converts the parameter's raw value, or defaults it when missing, and checks its constraints.
+     *
+     * @param value      the request parameter, possibly {@code null}
+     * @param parameters request parameter values by name, to read an {@code after} sibling
+     * @throws DateRejectedException if the value is missing but required, malformed, or breaks a constraint
+     */
+    public OffsetDateTime resolve(String value, Function<String, String> parameters) {
+        long start = System.nanoTime();
+        if (value == null || value.isEmpty()) {
+            if (emptyPath == ConversionPath.DEFAULTED && !constraints.isNone()) {
+                // A defaulted `to` still has to respect its `from`
+                OffsetDateTime defaulted = defaultValue.get();
+                checkConstraints(defaulted.toLocalDate().toEpochDay(), parameters, ConversionPath.DEFAULTED, start);
+                recorder.record(ConversionOutcome.EMPTY_OPTIONAL, ConversionPath.DEFAULTED, System.nanoTime() - start);
+                return defaulted;
+            }
+            if (!optional) {
+                recorder.record(ConversionOutcome.INVALID_FORMAT, ConversionPath.NONE, System.nanoTime() - start);
+                throw DateRejectedException.of(DateRejectedException.Reason.MISSING_DATE);
+            }
+            recorder.record(ConversionOutcome.EMPTY_OPTIONAL, emptyPath, System.nanoTime() - start);
+            return defaultValue.get();
+        }
+        long epochDay = DateEngine.memoizedEpochDay(value, formatMask);
+        if (epochDay == DateEngine.INVALID) {
+            recorder.record(ConversionOutcome.INVALID_FORMAT, ConversionPath.NONE, System.nanoTime() - start);
+            throw DateRejectedException.of(DateRejectedException.Reason.INVALID_DATE);
+        }
+        checkConstraints(epochDay, parameters, ConversionPath.PARSED, start);
+        OffsetDateTime result = dayBoundary.apply(epochDay);
+        recorder.record(ConversionOutcome.OK, ConversionPath.PARSED, System.nanoTime() - start);
+        return result;
+    }
+
+    private void checkConstraints(long epochDay, Function<String, String> parameters, ConversionPath path, long start) {
+        if (constraints.isNone()) {
+            return;
+        }
+        DateRejectedException.Reason reason = constraints.violation(epochDay, parameters);
+        if (reason != null) {
+            recorder.record(ConversionOutcome.CONSTRAINT_VIOLATION, path, System.nanoTime() - start);
+            throw DateRejectedException.of(reason);
+        }
+    }
+}
+
+
+package com.example.demo.resolver;
+
+import com.example.demo.annotation.CustomDate;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.core.DateEngine;
+import com.example.demo.core.DateFormat;
+import com.example.demo.core.DateRejectedException;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ParameterNameDiscoverer;
+
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * The limits a {@code @CustomDate} parameter declares: its own bounds and, with
+ * {@link CustomDate#after()}, ordering and span against the named sibling parameter. The
+ * sibling's text goes through the same per-thread parse memo, so checking a {@code to} against
+ * its {@code from} does not parse {@code from} again.
+ */
+public final class CustomDateConstraints {
+
+    public static final CustomDateConstraints NONE =
+            new CustomDateConstraints(DateConstraints.NONE, DateConstraints.NONE, null, 0);
+
+    private static final ParameterNameDiscoverer PARAMETER_NAMES = new DefaultParameterNameDiscoverer();
+
+    private final DateConstraints bounds;
+    private final DateConstraints range;
+    private final String after;
+    private final int afterFormatMask;
+
+    private CustomDateConstraints(DateConstraints bounds, DateConstraints range, String after, int afterFormatMask) {
+        this.bounds = bounds;
+        this.range = range;
+        this.after = after;
+        this.afterFormatMask = afterFormatMask;
+    }
+
+    /**
+     * @throws IllegalStateException if the annotation is inconsistent or {@code after} names
+     *                               no {@code @CustomDate} parameter of the same method
+     */
+    public static CustomDateConstraints of(MethodParameter parameter, CustomDate customDate) {
+        DateConstraints bounds;
+        try {
+            bounds = DateConstraints.of(customDate.earliest(), customDate.latest(), 0, false);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid @CustomDate on " + parameter + ": " + e.getMessage(), e);
+        }
+        if (customDate.maxDays() < 0) {
+            throw new IllegalStateException("maxDays on " + parameter + " must not be negative");
+        }
+        if (customDate.after().isEmpty()) {
+            if (customDate.maxDays() != 0) {
+                throw new IllegalStateException("maxDays on " + parameter + " needs after to name the start");
+            }
+            return bounds.isNone() ? NONE : new CustomDateConstraints(bounds, DateConstraints.NONE, null, 0);
+        }
+        CustomDate start = sibling(parameter, customDate.after());
+        DateConstraints range = DateConstraints.of("", "", customDate.maxDays(), true);
+        return new CustomDateConstraints(bounds, range, customDate.after(), DateFormat.mask(start.formats()));
+    }
+
+    private static CustomDate sibling(MethodParameter parameter, String name) {
+        Method method = parameter.getMethod();
+        String[] names = method == null ? null : PARAMETER_NAMES.getParameterNames(method);
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                CustomDate customDate = name.equals(names[i])
+                        ? method.getParameters()[i].getAnnotation(CustomDate.class) : null;
+                if (customDate != null) {
+                    return customDate;
+                }
+            }
+        }
+        throw new IllegalStateException("after = \"" + name + "\" on " + parameter + " names no @CustomDate parameter");
+    }
+
+    public boolean isNone() {
+        return this == NONE;
+    }
+
+    /**
+     * The rule the parameter's day breaks, or {@code null}.
+     *
+     * @param parameters request parameter values by name, to read the {@code after} sibling
+     */
+    public DateRejectedException.Reason violation(long epochDay, Function<String, String> parameters) {
+        DateRejectedException.Reason reason = bounds.violation(epochDay);
+        if (reason != null || after == null) {
+            return reason;
+        }
+        long start = DateEngine.memoizedEpochDay(parameters.apply(after), afterFormatMask);
+        // A missing or malformed start is rejected when that parameter is resolved
+        if (start == DateEngine.INVALID) {
+            return null;
+        }
+        return range.violation(start, epochDay);
+    }
+
+    /**
+     * @throws DateRejectedException if the parameter's day breaks a rule
+     */
+    public void check(long epochDay, Function<String, String> parameters) {
+        DateRejectedException.Reason reason = violation(epochDay, parameters);
+        if (reason != null) {
+            throw DateRejectedException.of(reason);
+        }
     }
 }
 
 
 package com.example.demo.config;
 
+import com.example.demo.cache.DateRangeCache;
+import com.example.demo.http.DateRangeBinaryHttpMessageConverter;
+import com.example.demo.http.DateRangeHttpMessageConverter;
+import com.example.demo.metrics.ConversionTimingInterceptor;
 import com.example.demo.resolver.CustomDateArgumentResolver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Clock;
 import java.util.List;
 
+/**
+ * Registers the date argument resolver, the timing interceptor and the date range message
+ * converters. Rendered text bodies are cached per range, up to
+ * {@code datetimeconverter.response-cache.size} entries (default 10000, 0 disables).
+ */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebConfig implements WebMvcConfigurer {
 
     private final CustomDateArgumentResolver customDateArgumentResolver;
+    private final DateRangeCache<byte[]> responseCache;
 
-    public WebConfig(CustomDateArgumentResolver customDateArgumentResolver) {
+    public WebConfig(CustomDateArgumentResolver customDateArgumentResolver, Clock clock,
+                     @Value("${datetimeconverter.response-cache.size:10000}") int responseCacheSize) {
         this.customDateArgumentResolver = customDateArgumentResolver;
+        this.responseCache = new DateRangeCache<>(clock, responseCacheSize);
     }
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(customDateArgumentResolver);
     }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConversionTimingInterceptor());
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // After the defaults; each only writes its own media type, so neither competes with Jackson
+        converters.add(new DateRangeHttpMessageConverter(responseCache));
+        converters.add(new DateRangeBinaryHttpMessageConverter());
+    }
+}
+
+package com.example.demo.config;
+
+import com.example.demo.annotation.CustomDate;
+import com.example.demo.annotation.CustomDateRange;
+import com.example.demo.converter.CustomDateRangeConverter;
+import com.example.demo.resolver.CustomDateConstraints;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodParameter;
+import org.springframework.stereotype.Component;
+import org.springframework.stereotype.Controller;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * Works out the constraints of every {@code @CustomDate} and {@code @CustomDateRange} handler
+ * parameter once the singletons exist, so a malformed bound, a negative {@code maxDays} or an
+ * {@code after} that names no parameter stops startup instead of failing requests later.
+ */
+@Component
+public class DateConstraintsVerifier implements SmartInitializingSingleton {
+
+    private final ListableBeanFactory beanFactory;
+    private final CustomDateRangeConverter rangeConverter;
+
+    public DateConstraintsVerifier(ListableBeanFactory beanFactory, CustomDateRangeConverter rangeConverter) {
+        this.beanFactory = beanFactory;
+        this.rangeConverter = rangeConverter;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String name : beanFactory.getBeanNamesForAnnotation(Controller.class)) {
+            Class<?> type = beanFactory.getType(name);
+            if (type == null) {
+                continue;
+            }
+            for (Method method : ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(type))) {
+                for (int i = 0; i < method.getParameterCount(); i++) {
+                    verify(new MethodParameter(method, i));
+                }
+            }
+        }
+    }
+
+    private void verify(MethodParameter parameter) {
+        CustomDateRange customDateRange = parameter.getParameterAnnotation(CustomDateRange.class);
+        if (customDateRange != null) {
+            rangeConverter.constraints(customDateRange);
+        }
+        CustomDate customDate = parameter.getParameterAnnotation(CustomDate.class);
+        if (customDate != null) {
+            CustomDateConstraints.of(parameter, customDate);
+        }
+    }
 }
 
 package com.example.demo.controller;
 
 import com.example.demo.annotation.CustomDate;
+import com.example.demo.core.DateConstraints;
+import com.example.demo.http.DateRangeETag;
+import com.example.demo.model.DateRangeModel;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Clock;
 import java.time.OffsetDateTime;
-
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Responses depend only on the converted dates, so they carry an ETag derived from them and a
+ * matching {@code If-None-Match} is answered with 304 before any body is rendered. A
+ * {@link DateRangeModel} has several representations, so its ETag is set by
+ * {@code DateRangeETagAdvice} once one is negotiated. When {@code to} is omitted it defaults to
+ * the end of today, and the response may be cached until then.
+ */
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class DateRangeController {
 
+    private final Clock clock;
+
+    public DateRangeController(Clock clock) {
+        this.clock = clock;
+    }
+
     @GetMapping("/date-range")
-    public ResponseEntity<String> getDateRange(
-            @RequestParam @CustomDate OffsetDateTime from,
-            @RequestParam(required = false) @CustomDate(optional = true, endOfDay = true) OffsetDateTime to) {
+    public ResponseEntity<DateRangeModel> getDateRange(
+            @CustomDate OffsetDateTime from,
+            @CustomDate(optional = true, endOfDay = true, after = "from",
+                    maxDays = DateConstraints.MAX_RANGE_DAYS) OffsetDateTime to,
+            WebRequest request) {
 
-        return ResponseEntity.ok(String.format("From: %s, To: %s", from, to));
+        return ResponseEntity.ok().cacheControl(cacheControl(to, request)).body(new DateRangeModel(from, to));
     }
 
     @GetMapping("/another-endpoint")
     public ResponseEntity<String> anotherEndpoint(
-            @RequestParam @CustomDate OffsetDateTime from,
-            @RequestParam(required = false) @CustomDate(optional = true, endOfDay = true) OffsetDateTime to) {
+            @CustomDate OffsetDateTime from,
+            @CustomDate(optional = true, endOfDay = true, after = "from",
+                    maxDays = DateConstraints.MAX_RANGE_DAYS) OffsetDateTime to,
+            WebRequest request) {
+
+        String etag = DateRangeETag.of(from, to);
+        CacheControl cacheControl = cacheControl(to, request);
+        if (request.checkNotModified(etag)) {
+            return notModified(etag, cacheControl);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl)
+                .body("Another endpoint using the same date conversion");
+    }
 
-        return ResponseEntity.ok("Another endpoint using the same date conversion");
+    private static <T> ResponseEntity<T> notModified(String etag, CacheControl cacheControl) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+    }
+
+    // A defaulted `to` is the last instant of today, so the answer is good until just after it
+    private CacheControl cacheControl(OffsetDateTime to, WebRequest request) {
+        String requested = request.getParameter("to");
+        if (to == null || (requested != null && !requested.isEmpty())) {
+            return CacheControl.empty();
+        }
+        long seconds = (to.toInstant().toEpochMilli() + 1 - clock.millis()) / 1_000;
+        return CacheControl.maxAge(Math.max(0, seconds), TimeUnit.SECONDS);
     }
 }
 